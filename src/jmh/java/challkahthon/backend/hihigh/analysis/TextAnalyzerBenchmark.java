@@ -0,0 +1,51 @@
+package challkahthon.backend.hihigh.analysis;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 기사 한 건 분량의 한/영 혼합 텍스트 분석 비용.
+ * ./gradlew jmh -Pjmh.includes=TextAnalyzerBenchmark (-prof gc 로 할당량 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TextAnalyzerBenchmark {
+
+	private static final String PARAGRAPH =
+		"스타트업에서 일하는 주니어 백엔드개발자의 성장기. Building scalable APIs with Spring and Node.js, "
+			+ "UI/UX 디자이너와 협업하며 배운 것들과 Kubernetes 기반 클라우드 인프라 운영 경험을 공유합니다. ";
+
+	private String article;
+
+	@Setup
+	public void setUp() {
+		article = PARAGRAPH.repeat(40);
+	}
+
+	@Benchmark
+	public void tokenStream(Blackhole blackhole) {
+		TokenStream stream = TextAnalyzer.STANDARD.tokenStream(article);
+		while (stream.incrementToken()) {
+			blackhole.consume(stream.termLength());
+		}
+	}
+
+	@Benchmark
+	public Object analyzeToList() {
+		return TextAnalyzer.STANDARD.analyze(article);
+	}
+
+	@Benchmark
+	public Object analyzeToDelimited() {
+		return TextAnalyzer.STANDARD.analyzeToDelimited(article, '|');
+	}
+}
@@ -0,0 +1,88 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import challkahthon.backend.hihigh.config.ChatGPTConfig;
+import challkahthon.backend.hihigh.stub.LatencyProfile;
+import challkahthon.backend.hihigh.stub.StubHttpServer;
+import challkahthon.backend.hihigh.utils.ChatGPTUtils;
+
+/**
+ * 로컬 스텁 서버를 상대로 한 뉴스 API 수집과 ChatGPT 호출의 처리량/지연 분포.
+ * 스텁은 로그정규 지연(중앙값 medianLatencyMs)과 오류율 errorRate 를 흉내 내므로 네트워크 없이 HTTP 클라이언트,
+ * 파싱, 동시성 설정 변경의 효과를 비교할 수 있습니다.
+ * ./gradlew jmh -Pjmh.includes=CrawlerStubBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class CrawlerStubBenchmark {
+
+	@Param({"50"})
+	public long medianLatencyMs;
+
+	@Param({"0.0", "0.05"})
+	public double errorRate;
+
+	private StubHttpServer server;
+	private WebCrawlerService webCrawlerService;
+	private ChatGPTUtils chatGPTUtils;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		server = StubHttpServer.start();
+		LatencyProfile latency = LatencyProfile.logNormal(medianLatencyMs, 0.6, medianLatencyMs * 20);
+		server.route("/v2/everything").fixture("stubs/newsapi-everything.json").latency(latency).errorRate(errorRate);
+		server.route("/api/v4/search").fixture("stubs/gnews-search.json").latency(latency).errorRate(errorRate);
+		server.route("/v1/chat/completions").fixture("stubs/openai-chat-completion.json")
+			.latency(LatencyProfile.logNormal(medianLatencyMs * 10, 0.4, medianLatencyMs * 60))
+			.errorRate(errorRate, 429);
+
+		// 수집 메서드는 저장소/스케줄러를 쓰지 않는다
+		webCrawlerService = new WebCrawlerService(null, null, null, null);
+		ReflectionTestUtils.setField(webCrawlerService, "newsApiKey", "stub-key");
+		ReflectionTestUtils.setField(webCrawlerService, "gNewsApiKey", "stub-key");
+		ReflectionTestUtils.setField(webCrawlerService, "newsApiBaseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(webCrawlerService, "gNewsBaseUrl", server.baseUrl());
+
+		ChatGPTConfig config = new ChatGPTConfig();
+		ReflectionTestUtils.setField(config, "secretKey", "stub-key");
+		chatGPTUtils = new ChatGPTUtils(config);
+		ReflectionTestUtils.setField(chatGPTUtils, "model", "gpt-4o-mini");
+		ReflectionTestUtils.setField(chatGPTUtils, "apiURL", server.baseUrl() + "/v1/chat/completions");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public Object newsApi() {
+		return webCrawlerService.crawlFromNewsAPI();
+	}
+
+	@Benchmark
+	public Object gNewsApi() {
+		return webCrawlerService.crawlFromGNewsAPI();
+	}
+
+	@Benchmark
+	public Object chatCompletion() {
+		return chatGPTUtils.callChatGPT("system", "백엔드 개발자가 되려면?");
+	}
+}
@@ -0,0 +1,57 @@
+package challkahthon.backend.hihigh.analysis;
+
+import java.util.Collection;
+
+/**
+ * 토큰 버퍼(char[])를 String 으로 만들지 않고 조회할 수 있는 고정 문자열 집합.
+ */
+final class CharArraySet {
+
+	private final char[][] entries;
+	private final int mask;
+
+	CharArraySet(Collection<String> values) {
+		int capacity = Integer.highestOneBit(Math.max(values.size(), 1) * 4);
+		this.entries = new char[capacity][];
+		this.mask = capacity - 1;
+		for (String value : values) {
+			char[] chars = value.toCharArray();
+			int slot = hash(chars, 0, chars.length) & mask;
+			while (entries[slot] != null && !equals(entries[slot], chars, 0, chars.length)) {
+				slot = (slot + 1) & mask;
+			}
+			entries[slot] = chars;
+		}
+	}
+
+	boolean contains(char[] buffer, int offset, int length) {
+		int slot = hash(buffer, offset, length) & mask;
+		while (entries[slot] != null) {
+			if (equals(entries[slot], buffer, offset, length)) {
+				return true;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return false;
+	}
+
+	private static int hash(char[] buffer, int offset, int length) {
+		int h = 0;
+		for (int i = offset; i < offset + length; i++) {
+			h = 31 * h + buffer[i];
+		}
+		return h ^ (h >>> 16);
+	}
+
+	private static boolean equals(char[] entry, char[] buffer, int offset, int length) {
+		if (entry.length != length) {
+			return false;
+		}
+		for (int i = 0; i < length; i++) {
+			if (entry[i] != buffer[offset + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,99 @@
+package challkahthon.backend.hihigh.analysis;
+
+/**
+ * 관심사 매칭용 경량 영어 어간 추출기.
+ * 복수형과 -ing/-ed/-er/-ment/-ly, 끝의 e 정도만 처리하며 토큰 버퍼를 제자리에서 줄입니다.
+ * (design, designer, designing, designs → design / developer, development → develop / code, coding → cod)
+ */
+final class EnglishStemmer {
+
+	private EnglishStemmer() {
+	}
+
+	/**
+	 * @return 어간의 길이
+	 */
+	static int stem(char[] buffer, int length) {
+		if (length <= 3) {
+			return length;
+		}
+
+		length = stripPlural(buffer, length);
+
+		if (endsWith(buffer, length, "ment") && length - 4 >= 4) {
+			length -= 4;
+		} else if (endsWith(buffer, length, "ing") && length - 3 >= 3 && hasVowel(buffer, length - 3)) {
+			length = undouble(buffer, length - 3);
+		} else if (endsWith(buffer, length, "ed") && length - 2 >= 3 && hasVowel(buffer, length - 2)) {
+			length = undouble(buffer, length - 2);
+		} else if (endsWith(buffer, length, "er") && length - 2 >= 4) {
+			length = undouble(buffer, length - 2);
+		} else if (endsWith(buffer, length, "ly") && length - 2 >= 4) {
+			length -= 2;
+		}
+		return stripFinalE(buffer, length);
+	}
+
+	private static int stripPlural(char[] buffer, int length) {
+		if (endsWith(buffer, length, "sses")) {
+			return length - 2;
+		}
+		if (endsWith(buffer, length, "ies") && length > 4) {
+			buffer[length - 3] = 'y';
+			return length - 2;
+		}
+		if (buffer[length - 1] == 's' && !endsWith(buffer, length, "ss") && !endsWith(buffer, length, "us")
+			&& !endsWith(buffer, length, "is")) {
+			return length - 1;
+		}
+		return length;
+	}
+
+	// programm → program
+	private static int undouble(char[] buffer, int length) {
+		char last = buffer[length - 1];
+		if (length >= 2 && last == buffer[length - 2] && isConsonant(buffer, length - 1)
+			&& last != 'l' && last != 's' && last != 'z') {
+			return length - 1;
+		}
+		return length;
+	}
+
+	// code/coding, experience/experienced 가 같은 어간이 되도록 끝의 e 는 항상 뗀다
+	private static int stripFinalE(char[] buffer, int length) {
+		return length > 3 && buffer[length - 1] == 'e' ? length - 1 : length;
+	}
+
+	private static boolean endsWith(char[] buffer, int length, String suffix) {
+		int offset = length - suffix.length();
+		if (offset < 0) {
+			return false;
+		}
+		for (int i = 0; i < suffix.length(); i++) {
+			if (buffer[offset + i] != suffix.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean hasVowel(char[] buffer, int length) {
+		for (int i = 0; i < length; i++) {
+			if (!isConsonant(buffer, i)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isConsonant(char[] buffer, int index) {
+		switch (buffer[index]) {
+			case 'a', 'e', 'i', 'o', 'u':
+				return false;
+			case 'y':
+				return index == 0 || !isConsonant(buffer, index - 1);
+			default:
+				return Character.isLetter(buffer[index]);
+		}
+	}
+}
@@ -0,0 +1,48 @@
+package challkahthon.backend.hihigh.analysis;
+
+/**
+ * 한글 음절/자모 판별과 자모 분해
+ */
+final class Hangul {
+
+	private static final char SYLLABLE_BASE = 0xAC00;
+	private static final char SYLLABLE_LAST = 0xD7A3;
+	private static final int JUNGSEONG_COUNT = 21;
+	private static final int JONGSEONG_COUNT = 28;
+
+	private Hangul() {
+	}
+
+	static boolean isHangul(char c) {
+		return (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST)
+			|| (c >= 0x1100 && c <= 0x11FF)
+			|| (c >= 0x3130 && c <= 0x318F);
+	}
+
+	static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+	}
+
+	/**
+	 * 음절을 초성/중성/종성 조합형 자모로 분해해 target 에 씁니다.
+	 * @return 쓴 문자 수 (2 또는 3, 음절이 아니면 1)
+	 */
+	static int decompose(char c, char[] target, int offset) {
+		if (!isSyllable(c)) {
+			target[offset] = c;
+			return 1;
+		}
+		int index = c - SYLLABLE_BASE;
+		int choseong = index / (JUNGSEONG_COUNT * JONGSEONG_COUNT);
+		int jungseong = (index % (JUNGSEONG_COUNT * JONGSEONG_COUNT)) / JONGSEONG_COUNT;
+		int jongseong = index % JONGSEONG_COUNT;
+
+		target[offset] = (char)(0x1100 + choseong);
+		target[offset + 1] = (char)(0x1161 + jungseong);
+		if (jongseong == 0) {
+			return 2;
+		}
+		target[offset + 2] = (char)(0x11A7 + jongseong);
+		return 3;
+	}
+}
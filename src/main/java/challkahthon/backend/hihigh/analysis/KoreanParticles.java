@@ -0,0 +1,42 @@
+package challkahthon.backend.hihigh.analysis;
+
+/**
+ * 한글 어절 끝의 조사를 떼어냅니다. ("디자인을", "디자인이" → "디자인")
+ * 형태소 분석 없이 흔한 조사만 처리하며, 남는 어간이 두 글자 미만이면 떼지 않습니다.
+ */
+final class KoreanParticles {
+
+	// 긴 조사를 먼저 검사한다
+	private static final String[] PARTICLES = {
+		"에서는", "으로는", "에게서",
+		"에서", "으로", "에게", "까지", "부터", "처럼", "보다", "이나", "하고", "와의", "과의",
+		"을", "를", "은", "는", "이", "가", "에", "의", "로", "와", "과", "도", "만"
+	};
+
+	private static final int MIN_STEM_LENGTH = 2;
+
+	private KoreanParticles() {
+	}
+
+	/**
+	 * @return 조사를 뗀 구간의 끝 위치
+	 */
+	static int strip(CharSequence text, int start, int end) {
+		for (String particle : PARTICLES) {
+			int stemEnd = end - particle.length();
+			if (stemEnd - start >= MIN_STEM_LENGTH && regionMatches(text, stemEnd, particle)) {
+				return stemEnd;
+			}
+		}
+		return end;
+	}
+
+	private static boolean regionMatches(CharSequence text, int offset, String particle) {
+		for (int i = 0; i < particle.length(); i++) {
+			if (text.charAt(offset + i) != particle.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
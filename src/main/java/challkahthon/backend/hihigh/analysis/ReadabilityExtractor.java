@@ -0,0 +1,208 @@
+package challkahthon.backend.hihigh.analysis;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+/**
+ * 기사 페이지에서 본문 블록을 찾아 텍스트로 꺼내는 readability 방식 추출기.
+ * 문단마다 길이/쉼표 수로 점수를 매겨 부모(전부)와 조부모(절반)에 더하고, 링크 밀도만큼 깎은 뒤
+ * 가장 높은 블록과 점수가 비슷한 형제 블록을 본문으로 봅니다. 상태가 없어 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class ReadabilityExtractor {
+
+	private static final Pattern UNLIKELY = Pattern.compile(
+		"comment|sidebar|footer|footnote|menu|nav|share|social|sponsor|promo|related|subscribe|newsletter|"
+			+ "popup|banner|cookie|breadcrumb|pagination|masthead|\\bad-|advert", Pattern.CASE_INSENSITIVE);
+	private static final Pattern LIKELY = Pattern.compile(
+		"article|body|content|entry|main|post|story|text|blog", Pattern.CASE_INSENSITIVE);
+	private static final String REMOVED_TAGS = "script, style, noscript, iframe, form, nav, header, footer, aside, "
+		+ "svg, button, input, select, textarea, figure > figcaption";
+	private static final String SCORED_BLOCKS = "p, pre, td, blockquote";
+	private static final String TEXT_BLOCKS = "p, pre, blockquote, h2, h3, h4, li";
+
+	private static final int MIN_PARAGRAPH_LENGTH = 25;
+	private static final int MIN_CONTENT_LENGTH = 200;
+	private static final int MAX_CONTENT_LENGTH = 20_000;
+	private static final double CLASS_WEIGHT = 25;
+
+	public static final ReadabilityExtractor STANDARD = new ReadabilityExtractor();
+
+	private ReadabilityExtractor() {
+	}
+
+	/**
+	 * 본문 텍스트(문단은 빈 줄로 구분)를 반환합니다. 본문으로 볼 만한 블록이 없거나 너무 짧으면 null 입니다.
+	 * 전달한 Document 는 정리 과정에서 변경됩니다.
+	 */
+	public String extract(Document doc) {
+		Element body = doc.body();
+		if (body == null) {
+			return null;
+		}
+		body.select(REMOVED_TAGS).remove();
+		removeUnlikelyCandidates(body);
+
+		Map<Element, Double> scores = new IdentityHashMap<>();
+		for (Element block : body.select(SCORED_BLOCKS)) {
+			String text = block.text();
+			if (text.length() < MIN_PARAGRAPH_LENGTH) {
+				continue;
+			}
+			double score = 1 + countCommas(text) + Math.min(text.length() / 100.0, 3);
+
+			Element parent = block.parent();
+			if (parent != null) {
+				scores.merge(parent, score + initialScore(parent, scores), Double::sum);
+				Element grandParent = parent.parent();
+				if (grandParent != null) {
+					scores.merge(grandParent, score / 2 + initialScore(grandParent, scores), Double::sum);
+				}
+			}
+		}
+
+		Element top = null;
+		double topScore = 0;
+		for (Map.Entry<Element, Double> entry : scores.entrySet()) {
+			double adjusted = entry.getValue() * (1 - linkDensity(entry.getKey()));
+			entry.setValue(adjusted);
+			if (adjusted > topScore) {
+				top = entry.getKey();
+				topScore = adjusted;
+			}
+		}
+		if (top == null) {
+			return null;
+		}
+
+		String content = collectText(top, topScore, scores);
+		return content.length() < MIN_CONTENT_LENGTH ? null : content;
+	}
+
+	// 후보에 처음 점수를 더할 때만 태그와 class/id 가중치를 얹는다
+	private double initialScore(Element element, Map<Element, Double> scores) {
+		if (scores.containsKey(element)) {
+			return 0;
+		}
+		double score = switch (element.normalName()) {
+			case "article" -> 10;
+			case "div", "section", "main" -> 5;
+			case "pre", "td", "blockquote" -> 3;
+			case "ul", "ol", "dl", "dd", "dt", "li" -> -3;
+			case "h1", "h2", "h3", "h4", "h5", "h6", "th" -> -5;
+			default -> 0;
+		};
+		return score + classWeight(element);
+	}
+
+	private double classWeight(Element element) {
+		String names = element.className() + " " + element.id();
+		double weight = 0;
+		if (LIKELY.matcher(names).find()) {
+			weight += CLASS_WEIGHT;
+		}
+		if (UNLIKELY.matcher(names).find()) {
+			weight -= CLASS_WEIGHT;
+		}
+		return weight;
+	}
+
+	private void removeUnlikelyCandidates(Element body) {
+		List<Element> unlikely = new ArrayList<>();
+		for (Element element : body.getAllElements()) {
+			if (element == body || "article".equals(element.normalName())) {
+				continue;
+			}
+			String names = element.className() + " " + element.id();
+			if (UNLIKELY.matcher(names).find() && !LIKELY.matcher(names).find()) {
+				unlikely.add(element);
+			}
+		}
+		unlikely.forEach(Element::remove);
+	}
+
+	// 최상위 블록과 같은 부모 아래에서 점수가 충분하거나 링크가 적은 긴 문단인 형제를 함께 본문으로 본다
+	private String collectText(Element top, double topScore, Map<Element, Double> scores) {
+		double threshold = Math.max(10, topScore * 0.2);
+		List<Element> parts = new ArrayList<>();
+		Element parent = top.parent();
+		if (parent == null) {
+			parts.add(top);
+		} else {
+			for (Element sibling : parent.children()) {
+				if (sibling == top || scores.getOrDefault(sibling, 0.0) >= threshold || isContentParagraph(sibling)) {
+					parts.add(sibling);
+				}
+			}
+		}
+
+		StringBuilder content = new StringBuilder();
+		for (Element part : parts) {
+			Elements blocks = part.is(TEXT_BLOCKS) ? new Elements(part) : part.select(TEXT_BLOCKS);
+			for (Element block : blocks) {
+				if (hasAncestorIn(block, blocks, part)) {
+					continue;
+				}
+				String text = block.text().trim();
+				if (text.isEmpty()) {
+					continue;
+				}
+				if (!content.isEmpty()) {
+					content.append("\n\n");
+				}
+				content.append(text);
+				if (content.length() >= MAX_CONTENT_LENGTH) {
+					return content.substring(0, MAX_CONTENT_LENGTH);
+				}
+			}
+		}
+		return content.toString();
+	}
+
+	private boolean isContentParagraph(Element element) {
+		if (!"p".equals(element.normalName())) {
+			return false;
+		}
+		String text = element.text();
+		return text.length() > 80 && linkDensity(element) < 0.25;
+	}
+
+	// li 안의 p 처럼 겹치는 블록은 바깥 블록 하나로만 꺼낸다
+	private boolean hasAncestorIn(Element block, Elements blocks, Element root) {
+		for (Element ancestor = block.parent(); ancestor != null && ancestor != root; ancestor = ancestor.parent()) {
+			if (ancestor.is(TEXT_BLOCKS) && blocks.contains(ancestor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private double linkDensity(Element element) {
+		int textLength = element.text().length();
+		if (textLength == 0) {
+			return 0;
+		}
+		int linkLength = 0;
+		for (Element link : element.select("a")) {
+			linkLength += link.text().length();
+		}
+		return Math.min(1.0, (double) linkLength / textLength);
+	}
+
+	private int countCommas(String text) {
+		int commas = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == ',' || c == '，' || c == '、') {
+				commas++;
+			}
+		}
+		return commas;
+	}
+}
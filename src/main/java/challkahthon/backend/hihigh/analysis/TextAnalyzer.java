@@ -0,0 +1,142 @@
+package challkahthon.backend.hihigh.analysis;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색, 관심사 매칭, 중복 제거에서 공통으로 쓰는 텍스트 분석기.
+ * NFKC 정규화 → 소문자화 → 문자 종류별 분리 → (영어) 어간 추출 / (한글) 조사 제거 후 바이그램 또는 자모 분해 → 불용어 제거
+ * 순서로 토큰을 만듭니다. 생성 후에는 불변이라 여러 스레드에서 공유할 수 있습니다.
+ */
+public final class TextAnalyzer {
+
+	public enum HangulMode {
+		/** 겹치는 두 글자 단위 ("백엔드개발자" → 백엔, 엔드, 드개, 개발, 발자) */
+		BIGRAM,
+		/** 어절 전체를 초성/중성/종성 자모로 분해한 토큰 하나 */
+		JAMO
+	}
+
+	private static final Set<String> DEFAULT_STOPWORDS = Set.of(
+		"a", "an", "the", "and", "or", "but", "of", "to", "in", "on", "at", "by", "for", "with", "from",
+		"as", "is", "are", "was", "were", "be", "been", "it", "its", "this", "that", "these", "those",
+		"및", "등", "또는", "그리고", "그", "이", "저", "것", "수");
+
+	/**
+	 * 검색 색인과 관심사 매칭에 쓰는 기본 분석기
+	 */
+	public static final TextAnalyzer STANDARD = builder().build();
+
+	private final boolean stemming;
+	private final boolean stripParticles;
+	private final HangulMode hangulMode;
+	private final CharArraySet stopwords;
+
+	private TextAnalyzer(Builder builder) {
+		this.stemming = builder.stemming;
+		this.stripParticles = builder.stripParticles;
+		this.hangulMode = builder.hangulMode;
+		this.stopwords = new CharArraySet(builder.stopwords);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	public TokenStream tokenStream(CharSequence text) {
+		return new TokenStream(this, normalize(text));
+	}
+
+	public List<String> analyze(CharSequence text) {
+		List<String> tokens = new ArrayList<>();
+		TokenStream stream = tokenStream(text);
+		while (stream.incrementToken()) {
+			tokens.add(stream.term());
+		}
+		return tokens;
+	}
+
+	/**
+	 * 토큰을 separator 로 이어 붙이되 앞뒤에도 separator 를 둡니다. ("|front|end|")
+	 * 토큰 경계에서만 일치하는 부분 문자열 검색에 사용합니다.
+	 */
+	public String analyzeToDelimited(CharSequence text, char separator) {
+		StringBuilder builder = new StringBuilder(text == null ? 1 : text.length() + 2);
+		builder.append(separator);
+		TokenStream stream = tokenStream(text);
+		while (stream.incrementToken()) {
+			builder.append(stream.termBuffer(), 0, stream.termLength()).append(separator);
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * 대소문자, 전각 문자, 구두점, 조사 차이를 무시한 비교용 문자열. 제목 기준 중복 판별에 사용합니다.
+	 */
+	public String fingerprint(CharSequence text) {
+		String delimited = analyzeToDelimited(text, ' ');
+		return delimited.trim();
+	}
+
+	boolean isStemming() {
+		return stemming;
+	}
+
+	boolean isStripParticles() {
+		return stripParticles;
+	}
+
+	HangulMode getHangulMode() {
+		return hangulMode;
+	}
+
+	boolean isStopword(char[] buffer, int length) {
+		return length == 0 || stopwords.contains(buffer, 0, length);
+	}
+
+	// 전각 영숫자, 호환 자모, 조합형 한글을 같은 형태로 맞춘다. 이미 정규형이면 복사하지 않는다
+	private static String normalize(CharSequence text) {
+		if (text == null) {
+			return "";
+		}
+		String value = text.toString();
+		return Normalizer.isNormalized(value, Normalizer.Form.NFKC) ? value
+			: Normalizer.normalize(value, Normalizer.Form.NFKC);
+	}
+
+	public static final class Builder {
+		private boolean stemming = true;
+		private boolean stripParticles = true;
+		private HangulMode hangulMode = HangulMode.BIGRAM;
+		private Set<String> stopwords = DEFAULT_STOPWORDS;
+
+		private Builder() {
+		}
+
+		public Builder stemming(boolean stemming) {
+			this.stemming = stemming;
+			return this;
+		}
+
+		public Builder stripParticles(boolean stripParticles) {
+			this.stripParticles = stripParticles;
+			return this;
+		}
+
+		public Builder hangulMode(HangulMode hangulMode) {
+			this.hangulMode = hangulMode;
+			return this;
+		}
+
+		public Builder stopwords(Set<String> stopwords) {
+			this.stopwords = stopwords;
+			return this;
+		}
+
+		public TextAnalyzer build() {
+			return new TextAnalyzer(this);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+package challkahthon.backend.hihigh.analysis;
+
+import java.util.Arrays;
+
+/**
+ * 분석기가 만드는 토큰을 하나씩 꺼내는 스트림.
+ * 현재 토큰은 재사용되는 버퍼에 담기므로 incrementToken() 을 다시 호출하기 전에 읽어야 합니다.
+ * <pre>
+ * TokenStream stream = analyzer.tokenStream(text);
+ * while (stream.incrementToken()) {
+ *     consume(stream.termBuffer(), stream.termLength());
+ * }
+ * </pre>
+ */
+public final class TokenStream {
+
+	public enum TokenType {
+		WORD, HANGUL
+	}
+
+	private final TextAnalyzer analyzer;
+	private final String text;
+	private int position = 0;
+
+	private char[] buffer = new char[32];
+	private int length = 0;
+	private int startOffset = 0;
+	private TokenType type;
+
+	// 처리 중인 한글 구간 [hangulStart, hangulEnd) 와 다음에 낼 바이그램 위치
+	private int hangulStart;
+	private int hangulEnd;
+	private int hangulCursor = -1;
+
+	TokenStream(TextAnalyzer analyzer, String text) {
+		this.analyzer = analyzer;
+		this.text = text;
+	}
+
+	public boolean incrementToken() {
+		while (true) {
+			if (hangulCursor >= 0) {
+				if (nextHangulToken()) {
+					return true;
+				}
+				hangulCursor = -1;
+			}
+			if (position >= text.length()) {
+				return false;
+			}
+
+			char c = text.charAt(position);
+			if (Hangul.isHangul(c)) {
+				startHangulRun();
+			} else if (Character.isLetterOrDigit(c)) {
+				if (nextWordToken()) {
+					return true;
+				}
+			} else {
+				position++;
+			}
+		}
+	}
+
+	public char[] termBuffer() {
+		return buffer;
+	}
+
+	public int termLength() {
+		return length;
+	}
+
+	/**
+	 * 현재 토큰을 문자열로 반환합니다. 호출할 때마다 새 String 을 만듭니다.
+	 */
+	public String term() {
+		return new String(buffer, 0, length);
+	}
+
+	public TokenType type() {
+		return type;
+	}
+
+	/**
+	 * 정규화된 텍스트 기준 현재 토큰의 시작 위치
+	 */
+	public int startOffset() {
+		return startOffset;
+	}
+
+	private boolean nextWordToken() {
+		int start = position;
+		length = 0;
+		while (position < text.length()) {
+			char c = text.charAt(position);
+			if (Hangul.isHangul(c) || !Character.isLetterOrDigit(c)) {
+				break;
+			}
+			ensureCapacity(length + 1);
+			buffer[length++] = Character.toLowerCase(c);
+			position++;
+		}
+
+		if (analyzer.isStemming()) {
+			length = EnglishStemmer.stem(buffer, length);
+		}
+		if (analyzer.isStopword(buffer, length)) {
+			return false;
+		}
+		startOffset = start;
+		type = TokenType.WORD;
+		return true;
+	}
+
+	private void startHangulRun() {
+		int start = position;
+		while (position < text.length() && Hangul.isHangul(text.charAt(position))) {
+			position++;
+		}
+		hangulStart = start;
+		hangulEnd = analyzer.isStripParticles() ? KoreanParticles.strip(text, start, position) : position;
+		hangulCursor = start;
+
+		ensureCapacity(hangulEnd - hangulStart);
+		text.getChars(hangulStart, hangulEnd, buffer, 0);
+		if (analyzer.isStopword(buffer, hangulEnd - hangulStart)) {
+			hangulCursor = -1;
+		}
+	}
+
+	private boolean nextHangulToken() {
+		int runLength = hangulEnd - hangulStart;
+		if (analyzer.getHangulMode() == TextAnalyzer.HangulMode.JAMO) {
+			if (hangulCursor != hangulStart) {
+				return false;
+			}
+			ensureCapacity(runLength * 3);
+			length = 0;
+			for (int i = hangulStart; i < hangulEnd; i++) {
+				length += Hangul.decompose(text.charAt(i), buffer, length);
+			}
+			emitHangul(hangulStart, hangulEnd);
+			return true;
+		}
+
+		// 한 글자 구간은 그대로, 그 외에는 겹치는 두 글자 단위로 자른다
+		if (runLength == 1) {
+			if (hangulCursor != hangulStart) {
+				return false;
+			}
+			buffer[0] = text.charAt(hangulStart);
+			length = 1;
+			emitHangul(hangulStart, hangulEnd);
+			return true;
+		}
+		if (hangulCursor + 1 >= hangulEnd) {
+			return false;
+		}
+		buffer[0] = text.charAt(hangulCursor);
+		buffer[1] = text.charAt(hangulCursor + 1);
+		length = 2;
+		emitHangul(hangulCursor, hangulCursor + 1);
+		return true;
+	}
+
+	private void emitHangul(int start, int nextCursor) {
+		startOffset = start;
+		type = TokenType.HANGUL;
+		hangulCursor = nextCursor;
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (buffer.length < capacity) {
+			buffer = Arrays.copyOf(buffer, Math.max(capacity, buffer.length * 2));
+		}
+	}
+}
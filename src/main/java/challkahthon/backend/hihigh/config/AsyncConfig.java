@@ -1,11 +1,18 @@
 package challkahthon.backend.hihigh.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
 @EnableAsync
@@ -21,4 +28,19 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // 도메인 이벤트 리스너(캐시/색인/피드 갱신) 전용 풀.
+    // TaskExecutor 빈을 하나 더 두면 이름 없는 @Async 의 기본 실행기가 바뀌므로 JDK 풀로 만든다
+    @Bean(name = "domainEventExecutor", destroyMethod = "shutdown")
+    public ExecutorService domainEventExecutor() {
+        return new ThreadPoolExecutor(2, 4, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(1000),
+            new CustomizableThreadFactory("DomainEvent-"), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    // 요약 작업은 문서별 편차가 커서 work-stealing 풀로 코어 전체에 분산한다
+    @Bean(name = "summarizationPool", destroyMethod = "shutdown")
+    public ForkJoinPool summarizationPool(@Value("${summarization.batch.parallelism:0}") int parallelism) {
+        int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(size, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, false);
+    }
 }
@@ -0,0 +1,26 @@
+package challkahthon.backend.hihigh.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${scheduling.pool-size:4}")
+    private int poolSize;
+
+    // 기본 스케줄러는 스레드 하나라 몇 시간 걸리는 일일 크롤링이 아웃박스 폴링/임대 확인을 막는다.
+    // TaskScheduler 빈으로 등록하면 이름 없는 @Async 의 기본 실행기가 바뀌므로 등록기에만 넘긴다
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Scheduling-");
+        // 컨텍스트 종료 후 JVM 종료를 막지 않도록 데몬 스레드로 만든다
+        threadFactory.setDaemon(true);
+        registrar.setScheduler(Executors.newScheduledThreadPool(poolSize, threadFactory));
+    }
+}
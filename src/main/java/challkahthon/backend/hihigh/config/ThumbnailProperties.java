@@ -0,0 +1,24 @@
+package challkahthon.backend.hihigh.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Getter;
+
+/**
+ * 응답에 내보내는 썸네일 프록시 URL 설정 (thumbnail.public-base-url).
+ * 요청의 Host 헤더로 주소를 만들면 그 값이 캐시된 응답 본문에 남으므로, 설정이 없으면 항상 루트 상대 경로를 씁니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "thumbnail")
+@Getter
+public class ThumbnailProperties {
+
+	// 프론트엔드가 다른 출처에서 떠 있으면 API 의 공개 주소(예: https://api.example.com)를 지정한다
+	private String publicBaseUrl = "";
+
+	public void setPublicBaseUrl(String publicBaseUrl) {
+		String trimmed = publicBaseUrl == null ? "" : publicBaseUrl.trim();
+		this.publicBaseUrl = trimmed.endsWith("/") ? trimmed.substring(0, trimmed.length() - 1) : trimmed;
+	}
+}
@@ -1,23 +1,38 @@
 package challkahthon.backend.hihigh.controller;
 
-import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.dto.response.CursorPage;
+import challkahthon.backend.hihigh.domain.entity.CrawlJob;
 import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
+import challkahthon.backend.hihigh.domain.projection.NewsPayloadSizeView;
 import challkahthon.backend.hihigh.dto.CareerNewsDto;
+import challkahthon.backend.hihigh.dto.CareerNewsDtoMapper;
 import challkahthon.backend.hihigh.repository.CareerNewsRepository;
 import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.service.AdminExportService;
+import challkahthon.backend.hihigh.service.BatchSummarizationService;
 import challkahthon.backend.hihigh.service.CareerNewsService;
+import challkahthon.backend.hihigh.service.CrawlJobService;
+import challkahthon.backend.hihigh.service.CrawlSourceScheduler;
+import challkahthon.backend.hihigh.service.InterestArticleCountIndex;
+import challkahthon.backend.hihigh.service.NewsIngestService;
 import challkahthon.backend.hihigh.service.PersonalizedCrawlerService;
+import challkahthon.backend.hihigh.service.SummaryCache;
 import challkahthon.backend.hihigh.service.WebCrawlerService;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import challkahthon.backend.hihigh.utils.KeywordDictionary;
+import challkahthon.backend.hihigh.utils.NewsCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,28 +50,99 @@ public class AdminController {
     private final CareerNewsService careerNewsService;
     private final PersonalizedCrawlerService personalizedCrawlerService;
     private final WebCrawlerService webCrawlerService;
-
-    @Operation(summary = "전체 뉴스 조회")
+    private final BatchSummarizationService batchSummarizationService;
+    private final SummaryCache summaryCache;
+    private final KeywordDictionary keywordDictionary;
+    private final InterestArticleCountIndex interestArticleCountIndex;
+    private final NewsIngestService newsIngestService;
+    private final CrawlJobService crawlJobService;
+    private final CrawlSourceScheduler crawlSourceScheduler;
+    private final AdminExportService adminExportService;
+    private final CareerNewsDtoMapper careerNewsDtoMapper;
+
+    @Operation(summary = "전체 뉴스 조회",
+        description = "최신순으로 조회합니다. 다음 페이지는 " + CareerNewsController.NEXT_CURSOR_HEADER
+            + " 응답 헤더 값을 cursor 로 넘겨 조회합니다.")
     @GetMapping("/news")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> getAllNews(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "50") int size) {
 
         try {
-            List<CareerNews> newsList = careerNewsRepository.findAll(
-                PageRequest.of(page, size)).getContent();
-
-            List<CareerNewsDto> newsListDto = newsList.stream()
-                .map(CareerNewsDto::fromEntity)
-                .collect(Collectors.toList());
+            CursorPage<CareerNewsDto> page = careerNewsService.getLatestNewsByCategory(null, cursor, size)
+                .map(careerNewsDtoMapper::fromView);
 
-            return ResponseEntity.ok(newsListDto);
+            return CareerNewsController.withNextCursor(page);
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("뉴스 조회 중 오류: " + e.getMessage());
         }
     }
 
+    @Operation(summary = "뉴스 내보내기",
+        description = "전체 뉴스를 NDJSON(format=ndjson) 또는 CSV(format=csv)로 스트리밍합니다. gzip=true 면 gzip 으로 압축합니다.")
+    @GetMapping("/export/news")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportNews(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "false") boolean includeContent) {
+        try {
+            AdminExportService.Format exportFormat = AdminExportService.Format.from(format);
+            StreamingResponseBody body = out -> adminExportService.exportNews(out, exportFormat, gzip, includeContent);
+            return exportResponse("news", exportFormat, gzip, body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("뉴스 내보내기 중 오류: " + e.getMessage());
+        }
+    }
+
+    @Operation(summary = "사용자 내보내기",
+        description = "전체 사용자를 NDJSON(format=ndjson) 또는 CSV(format=csv)로 스트리밍합니다. 비밀번호는 포함하지 않습니다.")
+    @GetMapping("/export/users")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> exportUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        try {
+            AdminExportService.Format exportFormat = AdminExportService.Format.from(format);
+            StreamingResponseBody body = out -> adminExportService.exportUsers(out, exportFormat, gzip);
+            return exportResponse("users", exportFormat, gzip, body);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("사용자 내보내기 중 오류: " + e.getMessage());
+        }
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String name, AdminExportService.Format format,
+            boolean gzip, StreamingResponseBody body) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_TYPE, format.getContentType())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"" + name + "." + format.getExtension() + "\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @Operation(summary = "뉴스 목록 전송량 비교",
+        description = "최신 뉴스 size 건을 엔티티 전체로 읽을 때와 목록 프로젝션으로 읽을 때 DB 에서 넘어오는 문자열 바이트 수")
+    @GetMapping("/news/payload-size")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getNewsPayloadSize(@RequestParam(defaultValue = "20") int size) {
+        try {
+            NewsPayloadSizeView payload = careerNewsRepository.measureLatestPayload(size);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("rowCount", payload.getRowCount());
+            result.put("entityBytes", payload.getEntityBytes());
+            result.put("listViewBytes", payload.getListViewBytes());
+            result.put("savedBytes", payload.getEntityBytes() - payload.getListViewBytes());
+            return ResponseEntity.ok(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("전송량 측정 중 오류: " + e.getMessage());
+        }
+    }
+
     @Operation(summary = "전체 크롤링 실행")
     @PostMapping("/crawl")
     @PreAuthorize("hasRole('ADMIN')")
@@ -69,6 +155,76 @@ public class AdminController {
         }
     }
 
+    @Operation(summary = "출처별 수집 주기 조회", description = "출처별 현재 수집 주기, 다음 수집 시각, 추정 발행 빈도와 신규 기사 수를 반환합니다.")
+    @GetMapping("/crawl-sources")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getCrawlSourceSchedules() {
+        try {
+            return ResponseEntity.ok(crawlSourceScheduler.getSchedules());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("수집 주기 조회 중 오류: " + e.getMessage());
+        }
+    }
+
+    @Operation(summary = "뉴스 요약 백필", description = "요약이 없는 기존 뉴스를 백그라운드에서 병렬로 요약해 저장합니다. "
+        + "이미 실행 중이면 그 작업을 반환하며, 진행 상황은 /api/admin/summaries/stats 의 backfill 에서 확인할 수 있습니다.")
+    @PostMapping("/summaries/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> backfillSummaries(@RequestParam(defaultValue = "100") int batchSize) {
+        try {
+            BatchSummarizationService.BackfillJob job = batchSummarizationService.startBackfill(batchSize);
+
+            Map<String, Object> result = new HashMap<>();
+            result.put("jobId", job.getId());
+            result.put("backfill", job);
+            return ResponseEntity.accepted().body(result);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("요약 백필 시작 중 오류: " + e.getMessage());
+        }
+    }
+
+    @Operation(summary = "뉴스 요약 백필 취소", description = "진행 중인 배치의 남은 항목과 이후 배치를 건너뜁니다. 이미 저장된 요약은 유지됩니다.")
+    @DeleteMapping("/summaries/backfill/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> cancelBackfill(@PathVariable Long jobId) {
+        BatchSummarizationService.BackfillJob job = batchSummarizationService.getBackfill();
+        if (job == null || job.getId() != jobId) {
+            return ResponseEntity.notFound().build();
+        }
+        job.cancel();
+        return ResponseEntity.ok(job);
+    }
+
+    @Operation(summary = "요약 처리량 및 캐시 통계 조회")
+    @GetMapping("/summaries/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getSummarizationStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("batch", batchSummarizationService.getStats());
+        stats.put("cache", summaryCache.getStats());
+        stats.put("backfill", batchSummarizationService.getBackfill());
+        return ResponseEntity.ok(stats);
+    }
+
+    @Operation(summary = "키워드 변형어 사전 조회")
+    @GetMapping("/keyword-variations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getKeywordVariations() {
+        return ResponseEntity.ok(keywordDictionary.getVariations());
+    }
+
+    @Operation(summary = "키워드 변형어 사전 갱신", description = "사전을 교체하고 컴파일된 키워드 매처를 다시 만듭니다.")
+    @PutMapping("/keyword-variations")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> updateKeywordVariations(@RequestBody Map<String, List<String>> variations) {
+        try {
+            keywordDictionary.reload(variations);
+            return ResponseEntity.ok("키워드 변형어 사전이 갱신되었습니다");
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("사전 갱신 중 오류: " + e.getMessage());
+        }
+    }
+
     @Operation(summary = "사용자별 맞춤 뉴스 조회")
     @GetMapping("/users/{username}/personalized-news")
     @PreAuthorize("hasRole('ADMIN')")
@@ -84,29 +240,12 @@ public class AdminController {
                 return ResponseEntity.ok(List.of());
             }
 
-            List<String> interests = Arrays.stream(user.getInterests().split("[,，]"))
-                .map(String::trim)
-                .filter(interest -> !interest.isEmpty())
-                .collect(Collectors.toList());
-
-            List<CareerNews> allNews = careerNewsRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 100));
-
-            // Filter news based on user interests
-            List<CareerNews> personalizedNews = allNews.stream()
-                .filter(news -> {
-                    if (news.getUserInterests() == null) return false;
-                    for (String interest : interests) {
-                        if (news.getUserInterests().toLowerCase().contains(interest.toLowerCase())) {
-                            return true;
-                        }
-                    }
-                    return false;
-                })
-                .limit(size)
-                .collect(Collectors.toList());
+            // 관심사 키워드에 연결된 기사만 키워드 연결 테이블에서 바로 읽는다
+            List<CareerNewsListView> personalizedNews = careerNewsRepository.findLatestListViewsByKeywords(
+                InterestKeywords.normalizedSet(user.getInterests()), PageRequest.of(0, size));
 
             List<CareerNewsDto> newsListDto = personalizedNews.stream()
-                .map(CareerNewsDto::fromEntity)
+                .map(careerNewsDtoMapper::fromView)
                 .collect(Collectors.toList());
 
             return ResponseEntity.ok(newsListDto);
@@ -120,13 +259,36 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> triggerGlobalPersonalizedCrawling() {
         try {
-            careerNewsService.triggerGlobalPersonalizedCrawling();
-            return ResponseEntity.ok("전체 사용자 맞춤 뉴스 크롤링이 시작되었습니다");
+            CrawlJob job = careerNewsService.triggerGlobalPersonalizedCrawling();
+            return ResponseEntity.ok("전체 사용자 맞춤 뉴스 크롤링이 시작되었습니다 (회차 " + job.getId()
+                + ", 사용자 " + job.getTotalTasks() + "명). 진행 상황은 /api/admin/crawl-jobs/" + job.getId() + " 에서 확인할 수 있습니다");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("전체 크롤링 실행 중 오류: " + e.getMessage());
         }
     }
 
+    @Operation(summary = "최근 크롤링 회차 진행 상황", description = "최근 20개 회차의 상태별 태스크 수, 진행률(%), 예상 남은 시간(초)을 반환합니다.")
+    @GetMapping("/crawl-jobs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getCrawlJobs() {
+        try {
+            return ResponseEntity.ok(crawlJobService.getRecentProgress());
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("크롤링 회차 조회 중 오류: " + e.getMessage());
+        }
+    }
+
+    @Operation(summary = "크롤링 회차 진행 상황")
+    @GetMapping("/crawl-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getCrawlJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(crawlJobService.getProgress(jobId));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body("크롤링 회차 조회 중 오류: " + e.getMessage());
+        }
+    }
+
     @Operation(summary = "시스템 통계 조회")
     @GetMapping("/stats")
     @PreAuthorize("hasRole('ADMIN')")
@@ -138,19 +300,13 @@ public class AdminController {
             // In the new approach, all news is global (not associated with specific users)
             long globalNews = totalNews;
             // Personalized news is determined by matching user interests with news interests
-            long personalizedNews = careerNewsRepository.findAll().stream()
-                .filter(news -> news.getUserInterests() != null && !news.getUserInterests().trim().isEmpty())
-                .count();
+            long personalizedNews = careerNewsRepository.countWithUserInterests();
 
             long totalUsers = userRepository.count();
-            long usersWithInterests = userRepository.findAll().stream()
-                .filter(user -> user.getInterests() != null && !user.getInterests().trim().isEmpty())
-                .count();
+            long usersWithInterests = userRepository.countUsersWithInterests();
 
             LocalDateTime lastWeek = LocalDateTime.now().minusWeeks(1);
-            long recentNews = careerNewsRepository.findAll().stream()
-                .filter(news -> news.getCreatedAt().isAfter(lastWeek))
-                .count();
+            long recentNews = careerNewsRepository.countByCreatedAtAfter(lastWeek);
 
             stats.put("totalNews", totalNews);
             stats.put("globalNews", globalNews);
@@ -165,12 +321,31 @@ public class AdminController {
         }
     }
 
-    @Operation(summary = "사용자 목록 조회")
+    @Operation(summary = "사용자 목록 조회",
+        description = "id 순으로 size 명(1~" + NewsCursor.MAX_PAGE_SIZE + ")씩 조회합니다. 다음 페이지는 "
+            + CareerNewsController.NEXT_CURSOR_HEADER + " 응답 헤더 값을 cursor 로 넘겨 조회합니다.")
     @GetMapping("/users")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> getAllUsers() {
+    public ResponseEntity<?> getAllUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        long afterId;
         try {
-            List<User> users = userRepository.findAll();
+            NewsCursor.checkPageSize(size);
+            afterId = cursor == null || cursor.isBlank() ? 0L : Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            return ResponseEntity.badRequest().body("유효하지 않은 커서입니다: " + cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+
+        try {
+            List<User> users = userRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, size + 1));
+            String nextCursor = null;
+            if (users.size() > size) {
+                users = users.subList(0, size);
+                nextCursor = String.valueOf(users.get(size - 1).getId());
+            }
 
             List<Map<String, Object>> userInfoList = users.stream()
                 .map(user -> {
@@ -185,32 +360,13 @@ public class AdminController {
                     userInfo.put("hasInterests", hasInterests);
 
                     // Count personalized news based on user interests
-                    long personalizedNewsCount = 0;
-                    if (hasInterests) {
-                        List<String> interests = Arrays.stream(user.getInterests().split("[,，]"))
-                            .map(String::trim)
-                            .filter(interest -> !interest.isEmpty())
-                            .collect(Collectors.toList());
-
-                        personalizedNewsCount = careerNewsRepository.findAll().stream()
-                            .filter(news -> {
-                                if (news.getUserInterests() == null) return false;
-                                for (String interest : interests) {
-                                    if (news.getUserInterests().toLowerCase().contains(interest.toLowerCase())) {
-                                        return true;
-                                    }
-                                }
-                                return false;
-                            })
-                            .count();
-                    }
-                    userInfo.put("personalizedNewsCount", personalizedNewsCount);
+                    userInfo.put("personalizedNewsCount", interestArticleCountIndex.countFor(user.getInterests()));
 
                     return userInfo;
                 })
                 .collect(Collectors.toList());
 
-            return ResponseEntity.ok(userInfoList);
+            return CareerNewsController.withNextCursor(new CursorPage<>(userInfoList, nextCursor));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("사용자 목록 조회 중 오류: " + e.getMessage());
         }
@@ -237,11 +393,10 @@ public class AdminController {
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<?> deleteNews(@PathVariable Long newsId) {
         try {
-            if (!careerNewsRepository.existsById(newsId)) {
+            if (!newsIngestService.delete(newsId)) {
                 return ResponseEntity.notFound().build();
             }
 
-            careerNewsRepository.deleteById(newsId);
             return ResponseEntity.ok("뉴스가 삭제되었습니다");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("뉴스 삭제 중 오류: " + e.getMessage());
@@ -260,28 +415,13 @@ public class AdminController {
                 return ResponseEntity.ok("사용자 " + username + "의 관심사가 설정되어 있지 않습니다.");
             }
 
-            List<String> interests = Arrays.stream(user.getInterests().split("[,，]"))
-                .map(String::trim)
-                .filter(interest -> !interest.isEmpty())
-                .collect(Collectors.toList());
-
             // Find news that match user interests
-            List<CareerNews> matchingNews = careerNewsRepository.findAll().stream()
-                .filter(news -> {
-                    if (news.getUserInterests() == null) return false;
-                    for (String interest : interests) {
-                        if (news.getUserInterests().toLowerCase().contains(interest.toLowerCase())) {
-                            return true;
-                        }
-                    }
-                    return false;
-                })
-                .collect(Collectors.toList());
+            long matchingNewsCount = interestArticleCountIndex.countFor(user.getInterests());
 
             // Instead of deleting news that match user interests, we could update them
             // to remove the matching interests, but for simplicity, we'll just return a message
 
-            return ResponseEntity.ok("사용자 " + username + "의 관심사와 일치하는 뉴스 " + matchingNews.size() + 
+            return ResponseEntity.ok("사용자 " + username + "의 관심사와 일치하는 뉴스 " + matchingNewsCount + 
                 "개가 있습니다. 새로운 접근 방식에서는 뉴스가 사용자와 직접 연결되지 않으므로 삭제하지 않습니다.");
         } catch (Exception e) {
             return ResponseEntity.badRequest().body("사용자 관심사 기반 뉴스 처리 중 오류: " + e.getMessage());
@@ -1,15 +1,19 @@
 package challkahthon.backend.hihigh.controller;
 
+import challkahthon.backend.hihigh.domain.dto.response.CursorPage;
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
 import challkahthon.backend.hihigh.dto.CareerNewsDto;
+import challkahthon.backend.hihigh.dto.CareerNewsDtoMapper;
 import challkahthon.backend.hihigh.service.CareerNewsService;
 import challkahthon.backend.hihigh.service.WebCrawlerService;
+import challkahthon.backend.hihigh.utils.NewsCursor;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -22,22 +26,91 @@ import java.util.stream.Collectors;
 @Tag(name = "커리어 뉴스", description = "커리어 뉴스 조회 API")
 public class CareerNewsController {
 
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
 	private final CareerNewsService careerNewsService;
 	private final WebCrawlerService webCrawlerService;
+	private final CareerNewsDtoMapper careerNewsDtoMapper;
+
+	/**
+	 * 목록 본문은 그대로 두고 다음 페이지 커서를 응답 헤더로 전달합니다.
+	 */
+	static <T> ResponseEntity<List<T>> withNextCursor(CursorPage<T> page) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (page.hasNext()) {
+			response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+		}
+		return response.body(page.items());
+	}
 
 	@Operation(
 		summary = "카테고리별 최신 뉴스 조회",
-		description = "지정된 카테고리의 최신 뉴스를 조회합니다. 카테고리가 지정되지 않으면 모든 카테고리의 최신 뉴스를 반환합니다."
+		description = "지정된 카테고리의 최신 뉴스를 조회합니다. 카테고리가 지정되지 않으면 모든 카테고리의 최신 뉴스를 반환합니다. "
+			+ "다음 페이지가 있으면 " + NEXT_CURSOR_HEADER + " 헤더의 값을 cursor 로 넘겨 이어서 조회합니다."
 	)
 	@GetMapping("/latest")
-	public ResponseEntity<List<CareerNewsDto>> getLatestNews(
+	public ResponseEntity<?> getLatestNews(
+		@Parameter(description = "뉴스 카테고리 (frontend, backend, design, planning, devops)")
+		@RequestParam(required = false) String category,
+		@Parameter(description = "이전 응답의 " + NEXT_CURSOR_HEADER + " 값 (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (1~" + NewsCursor.MAX_PAGE_SIZE + ")")
+		@RequestParam(defaultValue = "20") int size) {
+		try {
+			CursorPage<CareerNewsDto> page = careerNewsService.getLatestNewsByCategory(category, cursor, size)
+				.map(careerNewsDtoMapper::fromView);
+			return withNextCursor(page);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	@Operation(
+		summary = "맞춤 뉴스 조회",
+		description = "로그인한 사용자의 관심사 피드에 담긴 뉴스를 최신순으로 조회합니다. 관심사가 없으면 최신 뉴스를 반환합니다. "
+			+ "다음 페이지가 있으면 " + NEXT_CURSOR_HEADER + " 헤더의 값을 cursor 로 넘겨 이어서 조회합니다."
+	)
+	@GetMapping("/personalized")
+	public ResponseEntity<?> getPersonalizedNews(
 		@Parameter(description = "뉴스 카테고리 (frontend, backend, design, planning, devops)")
-		@RequestParam(required = false) String category) {
-		List<CareerNews> newsList = careerNewsService.getLatestNewsByCategory(category);
-		List<CareerNewsDto> newsListDto = newsList.stream()
-			.map(CareerNewsDto::fromEntity)
-			.collect(Collectors.toList());
-		return ResponseEntity.ok(newsListDto);
+		@RequestParam(required = false) String category,
+		@Parameter(description = "이전 응답의 " + NEXT_CURSOR_HEADER + " 값 (첫 페이지는 생략)")
+		@RequestParam(required = false) String cursor,
+		@Parameter(description = "페이지 크기 (1~" + NewsCursor.MAX_PAGE_SIZE + ")")
+		@RequestParam(defaultValue = "20") int size,
+		Authentication authentication) {
+		if (authentication == null || !authentication.isAuthenticated()) {
+			return ResponseEntity.badRequest().body("인증되지 않은 사용자입니다.");
+		}
+
+		try {
+			CursorPage<CareerNewsDto> page = careerNewsService
+				.getPersonalizedNews(authentication.getName(), category, cursor, size)
+				.map(careerNewsDtoMapper::fromView);
+			return withNextCursor(page);
+		} catch (RuntimeException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	@Operation(
+		summary = "뉴스 키워드 검색",
+		description = "제목과 본문에서 키워드를 검색해 관련도 순으로 상위 size 개를 반환합니다. 관련도 순이라 커서는 없습니다."
+	)
+	@GetMapping("/search")
+	public ResponseEntity<?> searchNews(
+		@Parameter(description = "검색어")
+		@RequestParam String keyword,
+		@Parameter(description = "최대 결과 수 (1~" + NewsCursor.MAX_PAGE_SIZE + ")")
+		@RequestParam(defaultValue = "20") int size) {
+		try {
+			List<CareerNewsDto> newsListDto = careerNewsService.searchNewsByKeyword(keyword, size).stream()
+				.map(careerNewsDtoMapper::fromView)
+				.collect(Collectors.toList());
+			return ResponseEntity.ok(newsListDto);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
 	}
 
 	@Operation(
@@ -52,6 +125,6 @@ public class CareerNewsController {
 		if (news == null) {
 			return ResponseEntity.notFound().build();
 		}
-		return ResponseEntity.ok(CareerNewsDto.fromEntityWithContent(news));
+		return ResponseEntity.ok(careerNewsDtoMapper.fromEntityWithContent(news));
 	}
 }
@@ -1,12 +1,17 @@
 package challkahthon.backend.hihigh.controller;
 
 import challkahthon.backend.hihigh.domain.dto.response.MainPageResponseDto;
-import challkahthon.backend.hihigh.service.MainPageService;
+import challkahthon.backend.hihigh.service.MainPageResponseCache;
+import challkahthon.backend.hihigh.service.MainPageResponseCache.CachedResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
@@ -18,24 +23,38 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "메인 페이지", description = "메인 페이지 관련 API")
 public class MainPageController {
 
-	private final MainPageService mainPageService;
+	private final MainPageResponseCache mainPageResponseCache;
 
 	@Operation(
 		summary = "메인 페이지 뉴스 조회",
 		description = "사용자의 관심사 키워드에 기반한 맞춤 뉴스를 키워드별로 분류하여 제공합니다. " +
-		             "관심사가 설정되지 않은 경우 기본 메시지를 반환합니다."
+		             "관심사가 설정되지 않은 경우 기본 메시지를 반환합니다. " +
+		             "ETag 를 If-None-Match 로 보내면 내용이 바뀌지 않은 경우 304 를 반환합니다."
 	)
 	@GetMapping
-	public ResponseEntity<?> getMainPageNews(Authentication authentication) {
+	public ResponseEntity<?> getMainPageNews(Authentication authentication,
+		@Parameter(description = "이전 응답의 ETag") @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		try {
 			String username = null;
 			if (authentication != null && authentication.isAuthenticated()) {
 				username = authentication.getName();
 			}
 
-			MainPageResponseDto response = mainPageService.getPersonalizedMainPageNews(username);
-			return ResponseEntity.ok(response);
-			
+			// 캐시에는 직렬화된 본문과 ETag 가 함께 있어 304 와 200 모두 다시 직렬화하지 않는다
+			CachedResponse cached = mainPageResponseCache.get(username);
+			CacheControl cacheControl = username == null ? CacheControl.noCache() : CacheControl.noCache().cachePrivate();
+			if (cached.matches(ifNoneMatch)) {
+				return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+					.eTag(cached.etag())
+					.cacheControl(cacheControl)
+					.build();
+			}
+			return ResponseEntity.ok()
+				.eTag(cached.etag())
+				.cacheControl(cacheControl)
+				.contentType(MediaType.APPLICATION_JSON)
+				.body(cached.body());
+
 		} catch (Exception e) {
 			// 오류 발생 시 기본 응답
 			return ResponseEntity.ok(MainPageResponseDto.builder()
@@ -0,0 +1,88 @@
+package challkahthon.backend.hihigh.controller;
+
+import challkahthon.backend.hihigh.service.ThumbnailService;
+import challkahthon.backend.hihigh.service.ThumbnailService.Thumbnail;
+import challkahthon.backend.hihigh.utils.ThumbnailUrls;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.net.URI;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/thumbnails")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@Tag(name = "썸네일", description = "뉴스 썸네일 프록시 API")
+public class ThumbnailController {
+
+	// Tomcat 커넥터가 sendfile 을 지원하면 요청 속성으로 파일을 넘겨 커널이 직접 소켓으로 보내게 한다
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+	private final ThumbnailService thumbnailService;
+
+	@Operation(
+		summary = "뉴스 썸네일 조회",
+		description = "원본 썸네일을 고정 폭(160, 320, 640) JPEG 로 줄여 제공합니다. 응답은 1년간 캐시할 수 있으며, "
+			+ "원본 URL 이 바뀌면 뉴스 응답의 썸네일 경로(v 값)도 바뀝니다. 변환할 수 없는 이미지는 원본 URL 로 리다이렉트합니다."
+	)
+	@GetMapping("/{newsId}")
+	public ResponseEntity<?> getThumbnail(
+		@PathVariable Long newsId,
+		@Parameter(description = "원하는 폭 (요청 폭 이상인 가장 작은 고정 폭으로 제공)")
+		@RequestParam(defaultValue = "" + ThumbnailUrls.DEFAULT_WIDTH) int w,
+		@Parameter(description = "원본 URL 버전 (캐시 구분용)")
+		@RequestParam(required = false) String v,
+		ServletWebRequest webRequest) {
+		Thumbnail thumbnail;
+		try {
+			thumbnail = thumbnailService.getThumbnail(newsId, w);
+		} catch (RuntimeException e) {
+			return ResponseEntity.notFound().build();
+		}
+
+		if (!thumbnail.isAvailable()) {
+			return ResponseEntity.status(HttpStatus.FOUND)
+				.location(URI.create(thumbnail.originalUrl()))
+				.cacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+				.build();
+		}
+		// 약한 태그(W/)와 쉼표로 나열된 태그, * 도 처리한다
+		if (webRequest.checkNotModified(thumbnail.etag())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.eTag(thumbnail.etag())
+				.cacheControl(IMMUTABLE)
+				.build();
+		}
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+			.eTag(thumbnail.etag())
+			.cacheControl(IMMUTABLE)
+			.contentType(MediaType.IMAGE_JPEG)
+			.contentLength(thumbnail.size());
+		HttpServletRequest request = webRequest.getRequest();
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			request.setAttribute(SENDFILE_FILENAME, thumbnail.file().toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START, 0L);
+			request.setAttribute(SENDFILE_END, thumbnail.size());
+			return response.build();
+		}
+		return response.body(new FileSystemResource(thumbnail.file()));
+	}
+}
@@ -6,6 +6,7 @@ import challkahthon.backend.hihigh.dto.UserResponseDto;
 import challkahthon.backend.hihigh.dto.UserUpdateDto;
 import challkahthon.backend.hihigh.repository.UserRepository;
 import challkahthon.backend.hihigh.service.CareerNewsService;
+import challkahthon.backend.hihigh.service.CustomUserDetailsService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class UserController {
 
     private final UserRepository userRepository;
     private final CareerNewsService careerNewsService;
+    private final CustomUserDetailsService customUserDetailsService;
 
     @Operation(
         summary = "사용자 정보 조회",
@@ -60,12 +62,11 @@ public class UserController {
 
         String username = authentication.getName();
         try {
-            User user = userRepository.findByLoginId(username)
-                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
-
             // 관심사 업데이트
-            user.setInterests(updateDto.getInterests());
-            userRepository.save(user);
+            User saved = customUserDetailsService.updateUserInterests(username, updateDto);
+            if (saved == null) {
+                throw new RuntimeException("사용자를 찾을 수 없습니다.");
+            }
 
             // 맞춤 뉴스 크롤링 트리거
             careerNewsService.triggerPersonalizedCrawling(username);
@@ -0,0 +1,18 @@
+package challkahthon.backend.hihigh.domain.dto.response;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지. nextCursor 가 null 이면 마지막 페이지입니다.
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+
+	public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+		return new CursorPage<>(items.stream().<R>map(mapper).toList(), nextCursor);
+	}
+}
@@ -1,6 +1,7 @@
 package challkahthon.backend.hihigh.domain.dto.response;
 
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.utils.ThumbnailUrls;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -16,11 +17,11 @@ public class NewsItemDto {
     private String thumbnailUrl;
     private String source;
     
-    public static NewsItemDto fromEntity(CareerNews news) {
+    public static NewsItemDto fromEntity(CareerNews news, String thumbnailBaseUrl) {
         return NewsItemDto.builder()
                 .id(news.getId())
                 .title(news.getTitle())
-                .thumbnailUrl(news.getThumbnailUrl())
+                .thumbnailUrl(ThumbnailUrls.proxied(thumbnailBaseUrl, news.getId(), news.getThumbnailUrl()))
                 .source(news.getSource())
                 .build();
     }
@@ -9,6 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_career_news_created_id", columnList = "created_at, id"),
+    @Index(name = "idx_career_news_category_created_id", columnList = "category, created_at, id"),
+    @Index(name = "idx_career_news_user_interests", columnList = "user_interests")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -39,6 +44,9 @@ public class CareerNews {
     @Column(columnDefinition = "LONGTEXT")
     private String originalContent;
 
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
     private String language;
 
     private LocalDateTime publishedDate;
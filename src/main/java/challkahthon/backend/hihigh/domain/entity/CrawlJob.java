@@ -0,0 +1,42 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import challkahthon.backend.hihigh.domain.enums.CrawlJobStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 맞춤 뉴스 크롤링 한 회차. 사용자별 태스크(CrawlTask)로 나뉘어 여러 노드의 워커가 나눠 처리한다
+ */
+@Entity
+@Table(name = "crawl_job", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_crawl_job_run_key", columnNames = "run_key")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 회차 식별자 (예: daily:2025-01-01). 같은 회차가 두 번 만들어지지 않도록 유니크
+    @Column(name = "run_key", nullable = false, length = 64)
+    private String runKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CrawlJobStatus status;
+
+    @Column(name = "total_tasks", nullable = false)
+    private int totalTasks;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+}
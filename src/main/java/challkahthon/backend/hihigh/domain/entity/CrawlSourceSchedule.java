@@ -0,0 +1,47 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 수집 출처(RSS 피드, 뉴스 API 검색어)별 수집 주기. 관측된 발행 빈도와 신규 기사 수에 따라 늘리거나 줄인다
+ */
+@Entity
+@Table(name = "crawl_source_schedule")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlSourceSchedule {
+    // 예: rss:Dev.to, newsapi:react developer OR react programming
+    @Id
+    @Column(name = "source_key", length = 255)
+    private String sourceKey;
+
+    @Column(name = "interval_minutes", nullable = false)
+    private long intervalMinutes;
+
+    @Column(name = "next_crawl_at")
+    private LocalDateTime nextCrawlAt;
+
+    @Column(name = "last_crawled_at")
+    private LocalDateTime lastCrawledAt;
+
+    @Column(name = "last_new_items", nullable = false)
+    private int lastNewItems;
+
+    // 발행일 간격으로 추정한 하루 발행 수 (지수 이동 평균)
+    @Column(name = "publish_rate_per_day", nullable = false)
+    private double publishRatePerDay;
+
+    @Column(name = "total_fetches", nullable = false)
+    private long totalFetches;
+
+    @Column(name = "total_new_items", nullable = false)
+    private long totalNewItems;
+}
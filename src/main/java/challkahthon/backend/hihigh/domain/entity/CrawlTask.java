@@ -0,0 +1,56 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import challkahthon.backend.hihigh.domain.enums.CrawlTaskStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 크롤링 회차 안의 사용자 한 명 분량 작업. 워커는 임대(lease_until)를 걸고 가져가며,
+ * 워커가 죽어 임대가 만료된 태스크는 다른 워커가 다시 가져간다
+ */
+@Entity
+@Table(name = "crawl_task", indexes = {
+    @Index(name = "idx_crawl_task_claim", columnList = "status, lease_until"),
+    @Index(name = "idx_crawl_task_job_status", columnList = "job_id, status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CrawlTask {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CrawlTaskStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "worker_id", length = 64)
+    private String workerId;
+
+    // DB 시각 기준 임대 만료 시각
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+}
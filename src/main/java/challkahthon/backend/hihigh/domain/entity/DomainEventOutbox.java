@@ -0,0 +1,38 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다른 노드로 전달할 도메인 이벤트 (JSON). 각 노드가 ID 순으로 읽어 자기 노드의 리스너에 다시 발행한다
+ */
+@Entity
+@Table(name = "domain_event_outbox", indexes = {
+    @Index(name = "idx_domain_event_outbox_created", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DomainEventOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 100)
+    private String eventType;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "origin_node", nullable = false, length = 36)
+    private String originNode;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,31 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 관심사와 기사 키워드가 공유하는 정규화된 키워드 사전 (소문자, 앞뒤 공백 제거)
+ */
+@Entity
+@Table(name = "keyword", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_keyword_name", columnNames = "name")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Keyword {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,38 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 ↔ 키워드 연결. 기사 저장 시 userInterests/keywords 를 파싱해 채운다
+ */
+@Entity
+@Table(name = "news_keyword", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_news_keyword", columnNames = {"news_id", "keyword_id"})
+}, indexes = {
+    @Index(name = "idx_news_keyword_keyword_created", columnList = "keyword_id, created_at, news_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class NewsKeyword {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "news_id", nullable = false)
+    private Long newsId;
+
+    @Column(name = "keyword_id", nullable = false)
+    private Long keywordId;
+
+    // 키워드별 최신순 조회를 인덱스만으로 하기 위해 기사 생성 시각을 복사해 둔다
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,32 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 노드 중 한 곳에서만 실행해야 하는 스케줄 작업의 임대(lease).
+ * 실행 노드가 죽으면 연장이 끊겨 임대가 만료되고, 다른 노드가 가져갈 수 있다
+ */
+@Entity
+@Table(name = "scheduled_job_lease")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ScheduledJobLease {
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 64)
+    private String owner;
+
+    // DB 시각 기준. 노드 간 시계 차이와 무관하게 만료를 판단한다
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+}
@@ -0,0 +1,28 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "summary_cache")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SummaryCacheEntry {
+    // 정규화된 본문과 maxSentences 의 SHA-256
+    @Id
+    @Column(length = 64)
+    private String contentHash;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String summary;
+
+    private LocalDateTime createdAt;
+}
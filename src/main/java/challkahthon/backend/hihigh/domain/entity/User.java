@@ -6,11 +6,16 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
+@Table(indexes = @Index(name = "idx_user_interests", columnList = "interests"))
 @Data
 @NoArgsConstructor
 public class User {
@@ -34,6 +39,8 @@ public class User {
 	private String goals;
 	// 사용자 희망직종
 	private String desiredOccupation;
+	// 맞춤 피드를 마지막으로 재구성한 시각 (null 이면 아직 생성되지 않음)
+	private LocalDateTime feedRefreshedAt;
 
 	@Builder
 	public User(String loginId, String password, UserRole userRole, String name, Gender gender, String birthYear,
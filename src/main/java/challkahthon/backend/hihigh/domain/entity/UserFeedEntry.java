@@ -0,0 +1,51 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별로 미리 계산된 메인 페이지 피드 (키워드 → 순위별 뉴스 ID)
+ */
+@Entity
+@Table(name = "user_feed_entry", indexes = {
+    @Index(name = "idx_user_feed_user_order", columnList = "user_id, keyword_order, rank_in_keyword"),
+    @Index(name = "idx_user_feed_news", columnList = "news_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserFeedEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String keyword;
+
+    // 사용자가 입력한 관심사 순서
+    @Column(name = "keyword_order", nullable = false)
+    private int keywordOrder;
+
+    @Column(name = "rank_in_keyword", nullable = false)
+    private int rankInKeyword;
+
+    @Column(name = "news_id", nullable = false)
+    private Long newsId;
+
+    // 시간과 무관한 관련도 (BM25 × 출처 가중치). 최신성 감쇠는 조회 시점에 곱한다
+    @Column(name = "relevance_score")
+    private Double relevanceScore;
+
+    private LocalDateTime publishedAt;
+
+    private LocalDateTime createdAt;
+}
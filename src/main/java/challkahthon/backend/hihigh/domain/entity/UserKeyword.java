@@ -0,0 +1,36 @@
+package challkahthon.backend.hihigh.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 ↔ 키워드 연결. User.interests 가 바뀔 때 다시 채운다
+ */
+@Entity
+@Table(name = "user_keyword", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_user_keyword", columnNames = {"user_id", "keyword_id"})
+}, indexes = {
+    @Index(name = "idx_user_keyword_keyword_user", columnList = "keyword_id, user_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserKeyword {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "keyword_id", nullable = false)
+    private Long keywordId;
+
+    // 사용자가 입력한 관심사 순서
+    @Column(name = "keyword_order", nullable = false)
+    private int keywordOrder;
+}
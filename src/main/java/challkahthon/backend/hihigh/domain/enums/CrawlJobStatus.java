@@ -0,0 +1,6 @@
+package challkahthon.backend.hihigh.domain.enums;
+
+public enum CrawlJobStatus {
+	RUNNING,
+	COMPLETED,
+}
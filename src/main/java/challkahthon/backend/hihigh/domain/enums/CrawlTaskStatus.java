@@ -0,0 +1,8 @@
+package challkahthon.backend.hihigh.domain.enums;
+
+public enum CrawlTaskStatus {
+	PENDING,
+	RUNNING,
+	DONE,
+	FAILED,
+}
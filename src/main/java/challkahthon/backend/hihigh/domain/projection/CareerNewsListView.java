@@ -0,0 +1,32 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 화면용 뉴스. 본문(LONGTEXT)은 읽지 않으며, 본문은 상세 조회(/api/career-news/{id})에서만 엔티티로 읽습니다.
+ */
+public interface CareerNewsListView {
+	Long getId();
+
+	String getTitle();
+
+	String getThumbnailUrl();
+
+	String getSource();
+
+	String getSourceUrl();
+
+	String getCategory();
+
+	String getKeywords();
+
+	String getUserInterests();
+
+	String getSummary();
+
+	String getLanguage();
+
+	LocalDateTime getPublishedDate();
+
+	LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+import challkahthon.backend.hihigh.domain.enums.CrawlTaskStatus;
+
+/**
+ * 크롤링 작업(job)의 상태별 태스크 수
+ */
+public interface CrawlTaskStatusCountView {
+	CrawlTaskStatus getStatus();
+
+	Long getTaskCount();
+}
@@ -0,0 +1,19 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키워드 분류 후보 뉴스. 본문(LONGTEXT) 없이 제목, 매칭된 키워드와 순위 계산용 출처/발행 시각만 담습니다.
+ */
+public interface KeywordCandidateView {
+	Long getId();
+
+	String getTitle();
+
+	String getMatchedKeyword();
+
+	String getSource();
+
+	// 발행일이 없으면 수집 시각
+	LocalDateTime getPublishedAt();
+}
@@ -0,0 +1,10 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+/**
+ * 키워드(정규화된 이름)별 관심사로 등록한 사용자 수
+ */
+public interface KeywordSubscriberCountView {
+	String getKeyword();
+
+	Long getSubscriberCount();
+}
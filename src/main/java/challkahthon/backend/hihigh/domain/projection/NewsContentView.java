@@ -0,0 +1,7 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+public interface NewsContentView {
+	Long getId();
+
+	String getContent();
+}
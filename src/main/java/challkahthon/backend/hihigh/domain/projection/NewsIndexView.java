@@ -0,0 +1,12 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+/**
+ * 검색 색인 구축용 뉴스 텍스트
+ */
+public interface NewsIndexView {
+	Long getId();
+
+	String getTitle();
+
+	String getContent();
+}
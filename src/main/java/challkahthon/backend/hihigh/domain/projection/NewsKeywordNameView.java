@@ -0,0 +1,10 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+/**
+ * 기사에 이미 연결된 키워드 이름
+ */
+public interface NewsKeywordNameView {
+	Long getNewsId();
+
+	String getName();
+}
@@ -0,0 +1,16 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * 키워드 연결 백필용 (본문 제외)
+ */
+public interface NewsKeywordSourceView {
+	Long getId();
+
+	String getUserInterests();
+
+	String getKeywords();
+
+	LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,12 @@
+package challkahthon.backend.hihigh.domain.projection;
+
+/**
+ * 최신 뉴스 N건을 읽을 때 DB 에서 넘어오는 문자열 컬럼 바이트 수 (엔티티 전체 vs 목록 프로젝션)
+ */
+public interface NewsPayloadSizeView {
+	Long getRowCount();
+
+	Long getEntityBytes();
+
+	Long getListViewBytes();
+}
@@ -1,6 +1,8 @@
 package challkahthon.backend.hihigh.dto;
 
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
+import challkahthon.backend.hihigh.utils.ThumbnailUrls;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -26,12 +28,16 @@ public class CareerNewsDto {
     private Boolean isPersonalized;
 
     private String content;
+    private String summary;
     private String language;
 
     private LocalDateTime publishedDate;
     private LocalDateTime createdAt;
 
-    public static CareerNewsDto fromEntity(CareerNews entity) {
+    /**
+     * @param thumbnailBaseUrl 썸네일 프록시 URL 앞에 붙일 공개 주소. 비어 있으면 루트 상대 경로
+     */
+    public static CareerNewsDto fromEntity(CareerNews entity, String thumbnailBaseUrl) {
         if (entity == null) {
             return null;
         }
@@ -39,7 +45,7 @@ public class CareerNewsDto {
         return CareerNewsDto.builder()
                 .id(entity.getId())
                 .title(entity.getTitle())
-                .thumbnailUrl(entity.getThumbnailUrl())
+                .thumbnailUrl(ThumbnailUrls.proxied(thumbnailBaseUrl, entity.getId(), entity.getThumbnailUrl()))
                 .source(entity.getSource())
                 .sourceUrl(entity.getSourceUrl())
                 .category(entity.getCategory())
@@ -47,14 +53,38 @@ public class CareerNewsDto {
                 .targetUsername(null)
                 .userInterests(entity.getUserInterests())
                 .isPersonalized(entity.getUserInterests() != null && !entity.getUserInterests().trim().isEmpty())
+                .summary(entity.getSummary())
                 .language(entity.getLanguage())
                 .publishedDate(entity.getPublishedDate())
                 .createdAt(entity.getCreatedAt())
                 .build();
     }
 
-    public static CareerNewsDto fromEntityWithContent(CareerNews entity) {
-        CareerNewsDto dto = fromEntity(entity);
+    public static CareerNewsDto fromView(CareerNewsListView view, String thumbnailBaseUrl) {
+        if (view == null) {
+            return null;
+        }
+
+        return CareerNewsDto.builder()
+                .id(view.getId())
+                .title(view.getTitle())
+                .thumbnailUrl(ThumbnailUrls.proxied(thumbnailBaseUrl, view.getId(), view.getThumbnailUrl()))
+                .source(view.getSource())
+                .sourceUrl(view.getSourceUrl())
+                .category(view.getCategory())
+                .keywords(view.getKeywords())
+                .targetUsername(null)
+                .userInterests(view.getUserInterests())
+                .isPersonalized(view.getUserInterests() != null && !view.getUserInterests().trim().isEmpty())
+                .summary(view.getSummary())
+                .language(view.getLanguage())
+                .publishedDate(view.getPublishedDate())
+                .createdAt(view.getCreatedAt())
+                .build();
+    }
+
+    public static CareerNewsDto fromEntityWithContent(CareerNews entity, String thumbnailBaseUrl) {
+        CareerNewsDto dto = fromEntity(entity, thumbnailBaseUrl);
         if (dto != null && entity.getOriginalContent() != null) {
             String content = entity.getOriginalContent();
             if (content.length() > 500) {
@@ -0,0 +1,30 @@
+package challkahthon.backend.hihigh.dto;
+
+import org.springframework.stereotype.Component;
+
+import challkahthon.backend.hihigh.config.ThumbnailProperties;
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 설정된 썸네일 공개 주소로 CareerNewsDto 를 만듭니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CareerNewsDtoMapper {
+
+	private final ThumbnailProperties thumbnailProperties;
+
+	public CareerNewsDto fromEntity(CareerNews entity) {
+		return CareerNewsDto.fromEntity(entity, thumbnailProperties.getPublicBaseUrl());
+	}
+
+	public CareerNewsDto fromView(CareerNewsListView view) {
+		return CareerNewsDto.fromView(view, thumbnailProperties.getPublicBaseUrl());
+	}
+
+	public CareerNewsDto fromEntityWithContent(CareerNews entity) {
+		return CareerNewsDto.fromEntityWithContent(entity, thumbnailProperties.getPublicBaseUrl());
+	}
+}
@@ -0,0 +1,11 @@
+package challkahthon.backend.hihigh.event;
+
+/**
+ * 기사가 삭제되었습니다. news_keyword 연결은 발행 전에 이미 지워져 있습니다.
+ */
+public record ArticleDeletedEvent(String originNode, Long newsId) implements DomainEvent {
+
+	public static ArticleDeletedEvent of(Long newsId) {
+		return new ArticleDeletedEvent(LOCAL_NODE, newsId);
+	}
+}
@@ -0,0 +1,20 @@
+package challkahthon.backend.hihigh.event;
+
+import java.util.List;
+import java.util.Objects;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+
+/**
+ * 새 기사가 저장되었습니다. news_keyword 연결은 발행 전에 이미 반영되어 있습니다.
+ * 다른 노드로도 전달되므로 엔티티 대신 ID 만 담고, 리스너가 필요한 컬럼을 다시 읽습니다.
+ */
+public record ArticlesIngestedEvent(String originNode, List<Long> newsIds) implements DomainEvent {
+
+	public static ArticlesIngestedEvent of(List<CareerNews> articles) {
+		return new ArticlesIngestedEvent(LOCAL_NODE, articles.stream()
+			.map(CareerNews::getId)
+			.filter(Objects::nonNull)
+			.toList());
+	}
+}
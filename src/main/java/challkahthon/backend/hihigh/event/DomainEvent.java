@@ -0,0 +1,25 @@
+package challkahthon.backend.hihigh.event;
+
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * 캐시/피드/색인을 증분 갱신하기 위한 도메인 이벤트.
+ * 이벤트는 커밋 이후 비동기로 전달되며, 아웃박스가 켜져 있으면 다른 노드에도 전달됩니다.
+ */
+public interface DomainEvent {
+
+	// 이 JVM 을 식별하는 값. 아웃박스로 돌아온 자기 이벤트를 거르고, DB 를 쓰는 작업을 발행 노드에서만 하도록 구분한다
+	String LOCAL_NODE = UUID.randomUUID().toString();
+
+	String originNode();
+
+	/**
+	 * 이 노드에서 발행된 이벤트인지 여부. 노드 로컬 캐시는 모든 노드에서 갱신하고, DB 반영은 발행 노드에서만 합니다.
+	 */
+	@JsonIgnore
+	default boolean isLocal() {
+		return LOCAL_NODE.equals(originNode());
+	}
+}
@@ -0,0 +1,101 @@
+package challkahthon.backend.hihigh.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import challkahthon.backend.hihigh.domain.entity.DomainEventOutbox;
+import challkahthon.backend.hihigh.repository.DomainEventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다른 노드가 아웃박스에 기록한 도메인 이벤트를 읽어 이 노드의 리스너에 다시 발행합니다.
+ * 아웃박스 ID 는 커밋 순서가 아니라 INSERT 순서로 매겨지므로 늦게 커밋된 행은 건너뛸 수 있습니다.
+ * 전달되는 이벤트는 노드 로컬 캐시 무효화용이라, 놓치더라도 각 캐시의 TTL 안에 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventOutboxRelay {
+
+	private static final int POLL_BATCH_SIZE = 500;
+
+	private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.of(
+			UserInterestsChangedEvent.class,
+			ArticlesIngestedEvent.class,
+			ArticleDeletedEvent.class,
+			PersonalizedFeedChangedEvent.class)
+		.collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+	private final DomainEventOutboxRepository outboxRepository;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ObjectMapper objectMapper;
+
+	@Value("${events.outbox.enabled:false}")
+	private boolean outboxEnabled;
+
+	@Value("${events.outbox.retention-hours:24}")
+	private long retentionHours;
+
+	// 기동 이전의 이벤트는 재생하지 않는다. 음수면 아직 시작 전
+	private volatile long lastSeenId = -1L;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (outboxEnabled) {
+			lastSeenId = outboxRepository.findMaxId();
+			log.info("도메인 이벤트 아웃박스 수신 시작: 노드 {}, 마지막 ID {}", DomainEvent.LOCAL_NODE, lastSeenId);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${events.outbox.poll-interval-ms:1000}")
+	public void poll() {
+		if (!outboxEnabled || lastSeenId < 0) {
+			return;
+		}
+
+		List<DomainEventOutbox> rows = outboxRepository.findAfter(lastSeenId, PageRequest.of(0, POLL_BATCH_SIZE));
+		for (DomainEventOutbox row : rows) {
+			lastSeenId = row.getId();
+			if (DomainEvent.LOCAL_NODE.equals(row.getOriginNode())) {
+				continue;
+			}
+
+			Class<? extends DomainEvent> type = EVENT_TYPES.get(row.getEventType());
+			if (type == null) {
+				log.warn("알 수 없는 도메인 이벤트 유형: {} (ID {})", row.getEventType(), row.getId());
+				continue;
+			}
+			try {
+				applicationEventPublisher.publishEvent(objectMapper.readValue(row.getPayload(), type));
+			} catch (JsonProcessingException e) {
+				log.warn("도메인 이벤트 역직렬화 실패: ID {}", row.getId(), e);
+			}
+		}
+	}
+
+	@Scheduled(cron = "0 0 * * * *")
+	public void purge() {
+		if (outboxEnabled) {
+			int deleted = outboxRepository.deleteCreatedBefore(LocalDateTime.now().minusHours(retentionHours));
+			if (deleted > 0) {
+				log.info("오래된 도메인 이벤트 {}개 삭제", deleted);
+			}
+		}
+	}
+}
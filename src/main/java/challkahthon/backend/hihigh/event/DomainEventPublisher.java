@@ -0,0 +1,53 @@
+package challkahthon.backend.hihigh.event;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import challkahthon.backend.hihigh.domain.entity.DomainEventOutbox;
+import challkahthon.backend.hihigh.repository.DomainEventOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도메인 이벤트 발행 창구.
+ * 리스너는 @TransactionalEventListener 로 등록되어 발행한 트랜잭션이 커밋된 뒤에 실행되고, 트랜잭션 밖에서 발행하면 바로 실행됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventPublisher {
+
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final DomainEventOutboxRepository outboxRepository;
+	private final ObjectMapper objectMapper;
+
+	@Value("${events.outbox.enabled:false}")
+	private boolean outboxEnabled;
+
+	/**
+	 * 이 노드의 리스너에 이벤트를 발행하고, 아웃박스가 켜져 있으면 아웃박스에도 기록합니다.
+	 * 상태 변경과 아웃박스 행이 함께 커밋되려면 변경을 저장하는 @Transactional 메서드 안에서 호출해야 합니다.
+	 */
+	public void publish(DomainEvent event) {
+		applicationEventPublisher.publishEvent(event);
+
+		if (outboxEnabled) {
+			try {
+				outboxRepository.save(DomainEventOutbox.builder()
+					.eventType(event.getClass().getSimpleName())
+					.payload(objectMapper.writeValueAsString(event))
+					.originNode(event.originNode())
+					.createdAt(LocalDateTime.now())
+					.build());
+			} catch (JsonProcessingException e) {
+				log.warn("도메인 이벤트 직렬화 실패: {}", event, e);
+			}
+		}
+	}
+}
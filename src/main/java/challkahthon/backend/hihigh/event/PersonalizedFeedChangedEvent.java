@@ -0,0 +1,16 @@
+package challkahthon.backend.hihigh.event;
+
+/**
+ * 저장된 맞춤 피드 내용이 바뀌었습니다. loginId 가 null 이면 모든 사용자의 피드가 대상입니다.
+ * 피드는 발행 노드에서만 다시 쓰므로, 다른 노드의 응답 캐시는 이 이벤트로 비웁니다.
+ */
+public record PersonalizedFeedChangedEvent(String originNode, String loginId) implements DomainEvent {
+
+	public static PersonalizedFeedChangedEvent forUser(String loginId) {
+		return new PersonalizedFeedChangedEvent(LOCAL_NODE, loginId);
+	}
+
+	public static PersonalizedFeedChangedEvent allUsers() {
+		return new PersonalizedFeedChangedEvent(LOCAL_NODE, null);
+	}
+}
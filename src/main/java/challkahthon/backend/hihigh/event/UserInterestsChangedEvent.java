@@ -0,0 +1,13 @@
+package challkahthon.backend.hihigh.event;
+
+import challkahthon.backend.hihigh.domain.entity.User;
+
+/**
+ * 사용자 관심사가 바뀌었습니다. user_keyword 연결은 발행 전에 이미 반영되어 있습니다.
+ */
+public record UserInterestsChangedEvent(String originNode, Long userId, String loginId) implements DomainEvent {
+
+	public static UserInterestsChangedEvent of(User user) {
+		return new UserInterestsChangedEvent(LOCAL_NODE, user.getId(), user.getLoginId());
+	}
+}
@@ -12,8 +12,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import challkahthon.backend.hihigh.domain.entity.User;
 import challkahthon.backend.hihigh.service.CustomUserDetailsService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -38,31 +40,31 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			String jwt = getJwtFromRequest(request);
 
 			if (StringUtils.hasText(jwt)) {
-				if (tokenProvider.isTokenExpired(jwt)) {
+				Claims claims;
+				try {
+					claims = tokenProvider.parseVerifiedClaims(jwt);
+				} catch (ExpiredJwtException ex) {
 					logger.debug("JWT token is expired for request: {}", request.getRequestURI());
 					filterChain.doFilter(request, response);
 					return;
+				} catch (JwtException | IllegalArgumentException ex) {
+					logger.debug("Invalid JWT token for request: {}", request.getRequestURI());
+					claims = null;
 				}
 
-				if (tokenProvider.validateToken(jwt)) {
-					String loginId = tokenProvider.getUserIdFromJWT(jwt);
+				String loginId = claims != null ? claims.getSubject() : null;
+				if (StringUtils.hasText(loginId)) {
+					UserDetails userDetails = customUserDetailsService.loadPrincipal(loginId);
+					if (userDetails != null) {
+						JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, null,
+							userDetails.getAuthorities());
+						authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+						SecurityContextHolder.getContext().setAuthentication(authentication);
 
-					if (StringUtils.hasText(loginId)) {
-						User user = customUserDetailsService.findByLoginId(loginId);
-						if (user != null) {
-							UserDetails userDetails = new CustomOauth2UserDetails(user, null);
-							JwtAuthenticationToken authentication = new JwtAuthenticationToken(userDetails, null,
-								userDetails.getAuthorities());
-							authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-							SecurityContextHolder.getContext().setAuthentication(authentication);
-							
-							logger.debug("Successfully authenticated user: {} for request: {}", loginId, request.getRequestURI());
-						} else {
-							logger.warn("User not found with loginId: {} for request: {}", loginId, request.getRequestURI());
-						}
+						logger.debug("Successfully authenticated user: {} for request: {}", loginId, request.getRequestURI());
+					} else {
+						logger.warn("User not found with loginId: {} for request: {}", loginId, request.getRequestURI());
 					}
-				} else {
-					logger.debug("Invalid JWT token for request: {}", request.getRequestURI());
 				}
 			}
 		} catch (Exception ex) {
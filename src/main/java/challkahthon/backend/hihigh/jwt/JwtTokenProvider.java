@@ -1,14 +1,26 @@
 package challkahthon.backend.hihigh.jwt;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import challkahthon.backend.hihigh.domain.entity.User;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -16,7 +28,15 @@ import io.jsonwebtoken.security.Keys;
 @Component
 public class JwtTokenProvider {
 
+	private static final int CLAIMS_CACHE_MAX_SIZE = 10_000;
+	// exp 가 없는 토큰의 claims 보관 시간
+	private static final long DEFAULT_CLAIMS_TTL_NANOS = TimeUnit.MINUTES.toNanos(5);
+
 	private final SecretKey jwtSecret;
+	// 불변이며 스레드 안전하므로 요청마다 만들지 않고 공유한다
+	private final JwtParser jwtParser;
+	// 토큰 SHA-256 → 검증된 claims. 원문 토큰은 보관하지 않는다
+	private final Cache<String, Claims> verifiedClaims;
 
 	@Value("${spring.jwt.access.expiration}")
 	private long jwtExpirationInMs;
@@ -29,6 +49,32 @@ public class JwtTokenProvider {
 
 	public JwtTokenProvider() {
 		this.jwtSecret = Keys.hmacShaKeyFor("HiHighSecretKey123456789012345678901234567890HiHighSecretKey".getBytes());
+		this.jwtParser = Jwts.parserBuilder()
+			.setSigningKey(jwtSecret)
+			.build();
+		this.verifiedClaims = Caffeine.newBuilder()
+			.maximumSize(CLAIMS_CACHE_MAX_SIZE)
+			.expireAfter(new Expiry<String, Claims>() {
+				@Override
+				public long expireAfterCreate(String key, Claims claims, long currentTime) {
+					Date expiration = claims.getExpiration();
+					if (expiration == null) {
+						return DEFAULT_CLAIMS_TTL_NANOS;
+					}
+					return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+				}
+
+				@Override
+				public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+
+				@Override
+				public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+					return currentDuration;
+				}
+			})
+			.build();
 	}
 
 	public String generateAccessToken(User user) {
@@ -64,43 +110,38 @@ public class JwtTokenProvider {
 			.compact();
 	}
 
+	/**
+	 * 서명과 만료를 검증하고 claims 를 반환합니다. 검증된 claims 는 토큰이 만료될 때까지 캐시되어 같은 토큰은 다시 파싱하지 않습니다.
+	 * @throws ExpiredJwtException 만료된 토큰
+	 * @throws JwtException 서명이 맞지 않거나 형식이 잘못된 토큰
+	 */
+	public Claims parseVerifiedClaims(String token) {
+		String key = tokenHash(token);
+		Claims cached = verifiedClaims.getIfPresent(key);
+		if (cached != null) {
+			return cached;
+		}
+
+		Claims claims = jwtParser.parseClaimsJws(token).getBody();
+		verifiedClaims.put(key, claims);
+		return claims;
+	}
+
 	public boolean isRefreshToken(String token) {
 		try {
-			Claims claims = Jwts.parserBuilder()
-				.setSigningKey(jwtSecret)
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
-
-			return "refresh".equals(claims.get("tokenType"));
+			return "refresh".equals(parseVerifiedClaims(token).get("tokenType"));
 		} catch (Exception ex) {
 			return false;
 		}
 	}
 
 	public String getUserIdFromJWT(String token) {
-		Claims claims = Jwts.parserBuilder()
-			.setSigningKey(jwtSecret)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
-
-		return claims.getSubject();
+		return parseVerifiedClaims(token).getSubject();
 	}
 
 	public boolean validateToken(String authToken) {
 		try {
-			Claims claims = Jwts.parserBuilder()
-				.setSigningKey(jwtSecret)
-				.build()
-				.parseClaimsJws(authToken)
-				.getBody();
-			
-			Date expiration = claims.getExpiration();
-			if (expiration.before(new Date())) {
-				return false;
-			}
-			
+			parseVerifiedClaims(authToken);
 			return true;
 		} catch (Exception ex) {
 			return false;
@@ -108,11 +149,7 @@ public class JwtTokenProvider {
 	}
 
 	public Claims getTokenClaims(String token) {
-		return Jwts.parserBuilder()
-			.setSigningKey(jwtSecret)
-			.build()
-			.parseClaimsJws(token)
-			.getBody();
+		return parseVerifiedClaims(token);
 	}
 
 	public Date getTokenIssuedAt(String token) {
@@ -132,13 +169,22 @@ public class JwtTokenProvider {
 
 	public boolean isTokenExpired(String token) {
 		try {
-			Date expiration = getTokenExpiration(token);
-			return expiration.before(new Date());
+			parseVerifiedClaims(token);
+			return false;
 		} catch (Exception ex) {
 			return true;
 		}
 	}
 
+	private static String tokenHash(String token) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
 	public Long getUserIdFromToken(String token) {
 		try {
 			Claims claims = getTokenClaims(token);
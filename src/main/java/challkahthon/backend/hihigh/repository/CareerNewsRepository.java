@@ -1,7 +1,12 @@
 package challkahthon.backend.hihigh.repository;
 
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
-import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
+import challkahthon.backend.hihigh.domain.projection.KeywordCandidateView;
+import challkahthon.backend.hihigh.domain.projection.NewsContentView;
+import challkahthon.backend.hihigh.domain.projection.NewsIndexView;
+import challkahthon.backend.hihigh.domain.projection.NewsKeywordSourceView;
+import challkahthon.backend.hihigh.domain.projection.NewsPayloadSizeView;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,7 +14,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface CareerNewsRepository extends JpaRepository<CareerNews, Long> {
@@ -18,21 +26,116 @@ public interface CareerNewsRepository extends JpaRepository<CareerNews, Long> {
 
     List<CareerNews> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
-    @Query("SELECT n FROM CareerNews n ORDER BY n.createdAt DESC")
-    List<CareerNews> findPersonalizedNews(Pageable pageable);
+    // 목록 프로젝션에 담는 컬럼 (original_content 제외)
+    String LIST_COLUMNS = "n.id AS id, n.title AS title, n.thumbnailUrl AS thumbnailUrl, n.source AS source, " +
+        "n.sourceUrl AS sourceUrl, n.category AS category, n.keywords AS keywords, " +
+        "n.userInterests AS userInterests, n.summary AS summary, n.language AS language, " +
+        "n.publishedDate AS publishedDate, n.createdAt AS createdAt";
 
-    @Query("SELECT n FROM CareerNews n WHERE n.userInterests LIKE %:interest% ORDER BY n.createdAt DESC")
-    List<CareerNews> findByInterestContaining(@Param("interest") String interest, Pageable pageable);
+    // 커서 페이지네이션: (createdAt, id) 내림차순 첫 페이지와 커서 다음 페이지
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n ORDER BY n.createdAt DESC, n.id DESC")
+    List<CareerNewsListView> findLatestListViews(Pageable pageable);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.category = :category " +
+        "ORDER BY n.createdAt DESC, n.id DESC")
+    List<CareerNewsListView> findLatestListViewsByCategory(@Param("category") String category, Pageable pageable);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.createdAt < :createdAt " +
+        "OR (n.createdAt = :createdAt AND n.id < :id) ORDER BY n.createdAt DESC, n.id DESC")
+    List<CareerNewsListView> findListViewPageAfter(@Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.category = :category AND (n.createdAt < :createdAt " +
+        "OR (n.createdAt = :createdAt AND n.id < :id)) ORDER BY n.createdAt DESC, n.id DESC")
+    List<CareerNewsListView> findListViewPageAfterByCategory(@Param("category") String category,
+        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.id IN :ids")
+    List<CareerNewsListView> findListViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.title LIKE %:keyword% " +
+        "OR n.originalContent LIKE %:keyword% ORDER BY n.createdAt DESC")
+    List<CareerNewsListView> searchListViews(@Param("keyword") String keyword, Pageable pageable);
+
+    // 목록 조회 시 전송량 비교용: 최신 limit 건의 문자열 컬럼 바이트 합
+    @Query(value = "SELECT COUNT(*) AS rowCount, " +
+        "COALESCE(SUM(COALESCE(OCTET_LENGTH(t.original_content), 0) + t.list_bytes), 0) AS entityBytes, " +
+        "COALESCE(SUM(t.list_bytes), 0) AS listViewBytes FROM (" +
+        "SELECT n.original_content, COALESCE(OCTET_LENGTH(n.title), 0) + COALESCE(OCTET_LENGTH(n.thumbnail_url), 0) + " +
+        "COALESCE(OCTET_LENGTH(n.source), 0) + COALESCE(OCTET_LENGTH(n.source_url), 0) + " +
+        "COALESCE(OCTET_LENGTH(n.category), 0) + COALESCE(OCTET_LENGTH(n.keywords), 0) + " +
+        "COALESCE(OCTET_LENGTH(n.user_interests), 0) + COALESCE(OCTET_LENGTH(n.summary), 0) + " +
+        "COALESCE(OCTET_LENGTH(n.language), 0) AS list_bytes " +
+        "FROM career_news n ORDER BY n.created_at DESC, n.id DESC LIMIT :limit) t", nativeQuery = true)
+    NewsPayloadSizeView measureLatestPayload(@Param("limit") int limit);
+
+    // 키워드 연결 테이블을 통한 관심사 매칭: (keyword_id, created_at) 인덱스 순서대로 읽는다
+    @Query("SELECT n FROM NewsKeyword nk JOIN Keyword k ON k.id = nk.keywordId JOIN CareerNews n ON n.id = nk.newsId " +
+        "WHERE k.name = :keyword ORDER BY nk.createdAt DESC")
+    List<CareerNews> findByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM CareerNews n WHERE n.id IN (SELECT nk.newsId FROM NewsKeyword nk " +
+        "JOIN Keyword k ON k.id = nk.keywordId WHERE k.name IN :keywords) ORDER BY n.createdAt DESC, n.id DESC")
+    List<CareerNewsListView> findLatestListViewsByKeywords(@Param("keywords") Collection<String> keywords,
+        Pageable pageable);
 
     boolean existsBySourceUrl(String sourceUrl);
 
+    // 이미 저장된 원문 URL (수집 결과를 한 번에 걸러낸다)
+    @Query("SELECT n.sourceUrl FROM CareerNews n WHERE n.sourceUrl IN :urls")
+    Set<String> findExistingSourceUrls(@Param("urls") Collection<String> urls);
+
     @Query("SELECT n FROM CareerNews n WHERE (:category IS NULL OR n.category = :category) ORDER BY n.createdAt DESC")
     List<CareerNews> findNewsByCategory(@Param("category") String category, Pageable pageable);
 
     long count();
 
+    // 관리자 통계용 집계 (인덱스만 읽는다)
+    @Query("SELECT COUNT(n) FROM CareerNews n WHERE n.userInterests IS NOT NULL AND n.userInterests != ''")
+    long countWithUserInterests();
+
+    long countByCreatedAtAfter(LocalDateTime createdAt);
+
+    // 키워드 연결이 아직 없는 기사 (연결 테이블 백필용)
+    @Query("SELECT n.id AS id, n.userInterests AS userInterests, n.keywords AS keywords, n.createdAt AS createdAt " +
+        "FROM CareerNews n WHERE n.id > :lastId AND (n.userInterests IS NOT NULL OR n.keywords IS NOT NULL) " +
+        "AND NOT EXISTS (SELECT 1 FROM NewsKeyword nk WHERE nk.newsId = n.id) ORDER BY n.id ASC")
+    List<NewsKeywordSourceView> findUnlinkedKeywordSources(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 여러 단어 키워드가 있는 기사 (단어별 연결 백필용)
+    @Query("SELECT n.id AS id, n.userInterests AS userInterests, n.keywords AS keywords, n.createdAt AS createdAt " +
+        "FROM CareerNews n WHERE n.id > :lastId AND (n.userInterests LIKE '% %' OR n.keywords LIKE '% %') " +
+        "ORDER BY n.id ASC")
+    List<NewsKeywordSourceView> findMultiWordKeywordSources(@Param("lastId") Long lastId, Pageable pageable);
+
     List<CareerNews> findByTitleContainingOrOriginalContentContainingOrderByCreatedAtDesc(
         String titleKeyword, String contentKeyword, Pageable pageable);
 
     List<CareerNews> findByUserInterests(String userInterests, Pageable pageable);
+
+    // 여러 키워드의 후보를 한 번에 조회 (키워드별 최신 perKeyword 개, 본문 제외). keywords 는 정규화된 키워드 이름
+    @Query(value = "SELECT c.id AS id, c.title AS title, c.keyword AS matchedKeyword, c.source AS source, " +
+        "COALESCE(c.published_date, c.created_at) AS publishedAt FROM (" +
+        "SELECT n.id, n.title, k.name AS keyword, n.source, n.published_date, n.created_at, " +
+        "ROW_NUMBER() OVER (PARTITION BY nk.keyword_id ORDER BY nk.created_at DESC) AS rn " +
+        "FROM keyword k JOIN news_keyword nk ON nk.keyword_id = k.id JOIN career_news n ON n.id = nk.news_id " +
+        "WHERE k.name IN (:keywords)) c " +
+        "WHERE c.rn <= :perKeyword ORDER BY c.created_at DESC", nativeQuery = true)
+    List<KeywordCandidateView> findKeywordCandidates(@Param("keywords") Collection<String> keywords,
+        @Param("perKeyword") int perKeyword);
+
+    @Query("SELECT n.id AS id, n.originalContent AS content FROM CareerNews n WHERE n.id IN :ids")
+    List<NewsContentView> findContentByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.id AS id, n.title AS title, n.originalContent AS content FROM CareerNews n " +
+        "WHERE n.id > :lastId ORDER BY n.id ASC")
+    List<NewsIndexView> findIndexBatch(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT n.id AS id, n.title AS title, n.originalContent AS content FROM CareerNews n WHERE n.id IN :ids")
+    List<NewsIndexView> findIndexViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT n.thumbnailUrl FROM CareerNews n WHERE n.id = :id")
+    Optional<String> findThumbnailUrlById(@Param("id") Long id);
+
+    List<CareerNews> findBySummaryIsNullAndIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -0,0 +1,27 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.CrawlJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface CrawlJobRepository extends JpaRepository<CrawlJob, Long> {
+
+    boolean existsByRunKey(String runKey);
+
+    List<CrawlJob> findTop20ByOrderByIdDesc();
+
+    // 남은(대기/실행 중) 태스크가 없는 회차를 완료 처리한다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE crawl_job j SET j.status = 'COMPLETED', j.completed_at = NOW(6) " +
+        "WHERE j.status = 'RUNNING' AND NOT EXISTS (" +
+        "SELECT 1 FROM crawl_task t WHERE t.job_id = j.id AND t.status IN ('PENDING', 'RUNNING'))",
+        nativeQuery = true)
+    int completeFinishedJobs();
+}
@@ -0,0 +1,13 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.CrawlSourceSchedule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CrawlSourceScheduleRepository extends JpaRepository<CrawlSourceSchedule, String> {
+
+    List<CrawlSourceSchedule> findAllByOrderByNextCrawlAtAsc();
+}
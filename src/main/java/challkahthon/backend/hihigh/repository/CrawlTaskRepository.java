@@ -0,0 +1,56 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.CrawlTask;
+import challkahthon.backend.hihigh.domain.projection.CrawlTaskStatusCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+// 임대 만료 판단과 연장은 DB 시각(NOW(6))으로 한다
+@Repository
+public interface CrawlTaskRepository extends JpaRepository<CrawlTask, Long> {
+
+    // 대기 중이거나 임대가 만료된 태스크를 잠근다. 다른 워커가 잠근 행은 기다리지 않고 건너뛴다
+    @Query(value = "SELECT id FROM crawl_task " +
+        "WHERE (status = 'PENDING' OR (status = 'RUNNING' AND lease_until < NOW(6))) AND attempts < :maxAttempts " +
+        "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockClaimable(@Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE crawl_task SET status = 'RUNNING', worker_id = :workerId, attempts = attempts + 1, " +
+        "lease_until = DATE_ADD(NOW(6), INTERVAL :seconds SECOND), started_at = NOW(6) WHERE id IN (:ids)",
+        nativeQuery = true)
+    int markClaimed(@Param("ids") Collection<Long> ids, @Param("workerId") String workerId,
+        @Param("seconds") long seconds);
+
+    // 처리 중인 태스크의 임대 연장. 이미 다른 워커가 가져갔거나 끝난 태스크면 0 을 반환한다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE crawl_task SET lease_until = DATE_ADD(NOW(6), INTERVAL :seconds SECOND) " +
+        "WHERE id = :id AND worker_id = :workerId AND status = 'RUNNING'", nativeQuery = true)
+    int renewLease(@Param("id") Long id, @Param("workerId") String workerId, @Param("seconds") long seconds);
+
+    // 가져간 워커가 끝내지 못한 채 재시도 한도에 닿은 태스크
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE crawl_task SET status = 'FAILED', finished_at = NOW(6), last_error = :error " +
+        "WHERE status = 'RUNNING' AND lease_until < NOW(6) AND attempts >= :maxAttempts", nativeQuery = true)
+    int failExhausted(@Param("maxAttempts") int maxAttempts, @Param("error") String error);
+
+    // 임대가 만료되어 다른 워커가 가져간 태스크는 결과를 덮어쓰지 않는다
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE crawl_task SET status = :status, finished_at = NOW(6), last_error = :error " +
+        "WHERE id = :id AND worker_id = :workerId AND status = 'RUNNING'", nativeQuery = true)
+    int finish(@Param("id") Long id, @Param("workerId") String workerId, @Param("status") String status,
+        @Param("error") String error);
+
+    @Query("SELECT t.status AS status, COUNT(t) AS taskCount FROM CrawlTask t WHERE t.jobId = :jobId GROUP BY t.status")
+    List<CrawlTaskStatusCountView> countByStatus(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,28 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.DomainEventOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface DomainEventOutboxRepository extends JpaRepository<DomainEventOutbox, Long> {
+
+    @Query("SELECT o FROM DomainEventOutbox o WHERE o.id > :lastId ORDER BY o.id ASC")
+    List<DomainEventOutbox> findAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(o.id), 0) FROM DomainEventOutbox o")
+    Long findMaxId();
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM DomainEventOutbox o WHERE o.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,24 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.Keyword;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface KeywordRepository extends JpaRepository<Keyword, Long> {
+
+    List<Keyword> findByNameIn(Collection<String> names);
+
+    // 동시에 같은 키워드를 등록해도 유니크 제약에 막혀 한 행만 남는다
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO keyword (name, created_at) VALUES (:name, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+}
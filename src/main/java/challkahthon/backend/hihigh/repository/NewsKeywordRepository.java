@@ -0,0 +1,35 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.NewsKeyword;
+import challkahthon.backend.hihigh.domain.projection.NewsKeywordNameView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface NewsKeywordRepository extends JpaRepository<NewsKeyword, Long> {
+
+    @Modifying
+    @Query("DELETE FROM NewsKeyword nk WHERE nk.newsId = :newsId")
+    int deleteByNewsId(@Param("newsId") Long newsId);
+
+    // 키워드 중 하나 이상에 연결된 기사 수 ((keyword_id, created_at, news_id) 인덱스만 읽는다)
+    @Query("SELECT COUNT(DISTINCT nk.newsId) FROM NewsKeyword nk JOIN Keyword k ON k.id = nk.keywordId " +
+        "WHERE k.name IN :names")
+    long countNewsByKeywordNames(@Param("names") Collection<String> names);
+
+    @Query("SELECT nk.newsId AS newsId, k.name AS name FROM NewsKeyword nk JOIN Keyword k ON k.id = nk.keywordId " +
+        "WHERE nk.newsId IN :newsIds")
+    List<NewsKeywordNameView> findLinkedNames(@Param("newsIds") Collection<Long> newsIds);
+
+    @Query("SELECT COUNT(DISTINCT nk.newsId) FROM NewsKeyword nk JOIN Keyword k ON k.id = nk.keywordId " +
+        "WHERE k.name IN :names AND nk.createdAt > :since")
+    long countNewsByKeywordNamesSince(@Param("names") Collection<String> names,
+        @Param("since") LocalDateTime since);
+}
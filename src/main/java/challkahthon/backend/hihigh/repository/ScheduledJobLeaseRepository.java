@@ -0,0 +1,40 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.ScheduledJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+// 만료 판단과 연장은 모두 DB 시각(NOW(6))으로 한다
+@Repository
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduled_job_lease (name, owner, lease_until) VALUES (:name, '', NOW(6))",
+        nativeQuery = true)
+    int insertIfAbsent(@Param("name") String name);
+
+    // 만료되었거나 이미 내 것인 임대만 가져온다. 동시에 시도해도 행 잠금으로 한 노드만 1을 받는다
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE scheduled_job_lease SET owner = :owner, " +
+        "lease_until = DATE_ADD(NOW(6), INTERVAL :seconds SECOND) " +
+        "WHERE name = :name AND (lease_until < NOW(6) OR owner = :owner)", nativeQuery = true)
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduled_job_lease SET lease_until = DATE_ADD(NOW(6), INTERVAL :seconds SECOND) " +
+        "WHERE name = :name AND owner = :owner", nativeQuery = true)
+    int renew(@Param("name") String name, @Param("owner") String owner, @Param("seconds") long seconds);
+
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE scheduled_job_lease SET lease_until = NOW(6) WHERE name = :name AND owner = :owner",
+        nativeQuery = true)
+    int release(@Param("name") String name, @Param("owner") String owner);
+}
@@ -0,0 +1,9 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.SummaryCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SummaryCacheEntryRepository extends JpaRepository<SummaryCacheEntry, String> {
+}
@@ -0,0 +1,24 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.UserFeedEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserFeedEntryRepository extends JpaRepository<UserFeedEntry, Long> {
+
+    List<UserFeedEntry> findByUserIdOrderByKeywordOrderAscRankInKeywordAsc(Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserFeedEntry e WHERE e.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM UserFeedEntry e WHERE e.newsId = :newsId")
+    int deleteByNewsId(@Param("newsId") Long newsId);
+}
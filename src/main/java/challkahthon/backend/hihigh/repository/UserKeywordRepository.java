@@ -0,0 +1,24 @@
+package challkahthon.backend.hihigh.repository;
+
+import challkahthon.backend.hihigh.domain.entity.UserKeyword;
+import challkahthon.backend.hihigh.domain.projection.KeywordSubscriberCountView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserKeywordRepository extends JpaRepository<UserKeyword, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserKeyword uk WHERE uk.userId = :userId")
+    int deleteByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT k.name AS keyword, COUNT(uk) AS subscriberCount FROM UserKeyword uk JOIN Keyword k " +
+        "ON k.id = uk.keywordId WHERE k.name IN :names GROUP BY k.name")
+    List<KeywordSubscriberCountView> countSubscribersByKeywordNames(@Param("names") Collection<String> names);
+}
@@ -1,10 +1,15 @@
 package challkahthon.backend.hihigh.repository;
 
 import challkahthon.backend.hihigh.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,14 +18,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByLoginId(String loginId);
     Optional<User> findByName(String name);
     Optional<User> findByProviderAndProviderId(String provider, String providerId);
+
+    // 관리자 사용자 목록: id 기준 커서 페이지네이션
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
     
     // 관심사가 설정된 사용자 조회
     @Query("SELECT u FROM User u WHERE u.interests IS NOT NULL AND u.interests != ''")
     List<User> findUsersWithInterests();
     
-    // 특정 관심사를 가진 사용자 조회
-    @Query("SELECT u FROM User u WHERE u.interests LIKE %:interest%")
-    List<User> findByInterestsContaining(String interest);
+    @Query("SELECT COUNT(u) FROM User u WHERE u.interests IS NOT NULL AND u.interests != ''")
+    long countUsersWithInterests();
+
+    // 키워드 중 하나 이상을 관심사로 가진 사용자 조회 (user_keyword 의 (keyword_id, user_id) 인덱스)
+    @Query("SELECT u FROM User u WHERE u.id IN (SELECT uk.userId FROM UserKeyword uk JOIN Keyword k " +
+           "ON k.id = uk.keywordId WHERE k.name IN :keywords)")
+    List<User> findByKeywords(@Param("keywords") Collection<String> keywords);
+
+    // 관심사는 있지만 키워드 연결이 아직 없는 사용자 (연결 테이블 백필용)
+    @Query("SELECT u FROM User u WHERE u.interests IS NOT NULL AND u.interests != '' " +
+           "AND NOT EXISTS (SELECT 1 FROM UserKeyword uk WHERE uk.userId = u.id)")
+    List<User> findUsersWithUnlinkedInterests();
+
+    // 관심사가 설정된 사용자를 ID 순으로 (일일 크롤링 진행 위치부터 이어 읽기용)
+    @Query("SELECT u FROM User u WHERE u.id > :lastId AND u.interests IS NOT NULL AND u.interests != '' " +
+           "ORDER BY u.id ASC")
+    List<User> findUsersWithInterestsAfter(@Param("lastId") Long lastId, Pageable pageable);
     
     // 희망직종이 설정된 사용자 조회
     @Query("SELECT u FROM User u WHERE u.desiredOccupation IS NOT NULL AND u.desiredOccupation != ''")
@@ -35,4 +57,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
            "AND u.goals IS NOT NULL AND u.goals != '' " +
            "AND u.desiredOccupation IS NOT NULL AND u.desiredOccupation != ''")
     List<User> findUsersWithCompleteProfile();
+
+    // 맞춤 피드 재구성 시각만 갱신 (분리된 엔티티 병합으로 다른 필드를 덮어쓰지 않도록)
+    @Modifying
+    @Query("UPDATE User u SET u.feedRefreshedAt = :refreshedAt WHERE u.id = :id")
+    int updateFeedRefreshedAt(@Param("id") Long id, @Param("refreshedAt") LocalDateTime refreshedAt);
 }
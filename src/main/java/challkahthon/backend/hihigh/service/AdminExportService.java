@@ -0,0 +1,259 @@
+package challkahthon.backend.hihigh.service;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자용 뉴스/사용자 내보내기. 한 행씩 읽어 바로 응답 스트림에 쓰므로 내보내는 양과 무관하게 힙 사용량이 일정합니다.
+ */
+@Service
+@Slf4j
+public class AdminExportService {
+
+	// MySQL Connector/J 는 fetchSize 가 Integer.MIN_VALUE 인 전진 전용 결과셋을 행 단위로 스트리밍한다
+	private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+	private static final int FLUSH_INTERVAL_ROWS = 1000;
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private static final String NEWS_COLUMNS = "id, title, source, source_url, category, keywords, user_interests, "
+		+ "summary, language, published_date, created_at";
+	private static final String USER_COLUMNS = "id, login_id, name, user_role, provider, interests, goals, "
+		+ "desired_occupation, feed_refreshed_at";
+
+	private final JdbcTemplate streamingJdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	public AdminExportService(DataSource dataSource, ObjectMapper objectMapper) {
+		this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+		this.streamingJdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+		this.objectMapper = objectMapper;
+	}
+
+	public enum Format {
+		NDJSON("application/x-ndjson", "ndjson"),
+		CSV("text/csv; charset=UTF-8", "csv");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtension() {
+			return extension;
+		}
+
+		public static Format from(String value) {
+			try {
+				return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+			} catch (RuntimeException e) {
+				throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+			}
+		}
+	}
+
+	public long exportNews(OutputStream out, Format format, boolean gzip, boolean includeContent) throws IOException {
+		String columns = includeContent ? NEWS_COLUMNS + ", original_content" : NEWS_COLUMNS;
+		return export("SELECT " + columns + " FROM career_news ORDER BY id", out, format, gzip);
+	}
+
+	public long exportUsers(OutputStream out, Format format, boolean gzip) throws IOException {
+		return export("SELECT " + USER_COLUMNS + " FROM `user` ORDER BY id", out, format, gzip);
+	}
+
+	private long export(String sql, OutputStream out, Format format, boolean gzip) throws IOException {
+		long start = System.currentTimeMillis();
+		OutputStream target = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : out;
+		long rows;
+
+		try (RowWriter writer = format == Format.NDJSON ? new NdjsonRowWriter(target) : new CsvRowWriter(target)) {
+			rows = streamingJdbcTemplate.query(sql, (ResultSet rs) -> {
+				try {
+					writer.writeHeader(rs.getMetaData());
+					long written = 0L;
+					while (rs.next()) {
+						writer.writeRow(rs);
+						if (++written % FLUSH_INTERVAL_ROWS == 0) {
+							writer.flush();
+						}
+					}
+					return written;
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			// 클라이언트가 중간에 연결을 끊은 경우
+			throw e.getCause();
+		}
+
+		log.info("관리자 내보내기 완료: {}행, 형식 {}, gzip {} ({}ms)", rows, format, gzip,
+			System.currentTimeMillis() - start);
+		return rows;
+	}
+
+	private interface RowWriter extends AutoCloseable {
+		void writeHeader(ResultSetMetaData metaData) throws SQLException, IOException;
+
+		void writeRow(ResultSet rs) throws SQLException, IOException;
+
+		void flush() throws IOException;
+
+		@Override
+		void close() throws IOException;
+	}
+
+	private class NdjsonRowWriter implements RowWriter {
+		private final JsonGenerator generator;
+		private String[] labels;
+
+		NdjsonRowWriter(OutputStream out) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(new BufferedOutputStream(out, BUFFER_SIZE));
+			// 행마다 독립된 JSON 객체 한 줄
+			this.generator.setRootValueSeparator(null);
+		}
+
+		@Override
+		public void writeHeader(ResultSetMetaData metaData) throws SQLException {
+			labels = columnLabels(metaData);
+		}
+
+		@Override
+		public void writeRow(ResultSet rs) throws SQLException, IOException {
+			generator.writeStartObject();
+			for (int i = 0; i < labels.length; i++) {
+				Object value = rs.getObject(i + 1);
+				generator.writeFieldName(labels[i]);
+				if (value == null) {
+					generator.writeNull();
+				} else if (value instanceof Number) {
+					generator.writeNumber(value.toString());
+				} else if (value instanceof Boolean bool) {
+					generator.writeBoolean(bool);
+				} else {
+					generator.writeString(stringValue(value));
+				}
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+
+	private static class CsvRowWriter implements RowWriter {
+		private final Writer writer;
+		private int columnCount;
+
+		CsvRowWriter(OutputStream out) {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+		}
+
+		@Override
+		public void writeHeader(ResultSetMetaData metaData) throws SQLException, IOException {
+			String[] labels = columnLabels(metaData);
+			columnCount = labels.length;
+			for (int i = 0; i < labels.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writeField(labels[i]);
+			}
+			writer.write("\r\n");
+		}
+
+		@Override
+		public void writeRow(ResultSet rs) throws SQLException, IOException {
+			for (int i = 1; i <= columnCount; i++) {
+				if (i > 1) {
+					writer.write(',');
+				}
+				Object value = rs.getObject(i);
+				if (value != null) {
+					writeField(stringValue(value));
+				}
+			}
+			writer.write("\r\n");
+		}
+
+		// RFC 4180: 구분자, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다
+		private void writeField(String value) throws IOException {
+			boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+				|| value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+			if (!quote) {
+				writer.write(value);
+				return;
+			}
+			writer.write('"');
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c == '"') {
+					writer.write('"');
+				}
+				writer.write(c);
+			}
+			writer.write('"');
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+	}
+
+	private static String[] columnLabels(ResultSetMetaData metaData) throws SQLException {
+		String[] labels = new String[metaData.getColumnCount()];
+		for (int i = 0; i < labels.length; i++) {
+			labels[i] = metaData.getColumnLabel(i + 1);
+		}
+		return labels;
+	}
+
+	private static String stringValue(Object value) {
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime().toString();
+		}
+		return String.valueOf(value);
+	}
+}
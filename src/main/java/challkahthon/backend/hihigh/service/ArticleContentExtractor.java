@@ -0,0 +1,219 @@
+package challkahthon.backend.hihigh.service;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jsoup.Connection;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import challkahthon.backend.hihigh.analysis.ReadabilityExtractor;
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 원문 페이지를 받아 본문을 추출하는 선택 단계.
+ * 응답은 최대 바이트 수까지만 읽고 요청 전체에 시간 제한을 두며, 결과는 정규화한 URL 기준으로 캐시합니다.
+ * 여러 기사를 동시에 받되 호스트별 간격과 전체 동시 요청 수는 PolitenessLimiter 를 따릅니다.
+ */
+@Service
+@Slf4j
+public class ArticleContentExtractor {
+
+	private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+	// 추출에 실패한 URL 도 빈 문자열로 캐시해 같은 페이지를 반복해서 받지 않는다
+	private static final String NO_CONTENT = "";
+
+	private final PolitenessLimiter politenessLimiter;
+	private final boolean enabled;
+	private final int maxBytes;
+	private final int timeoutMillis;
+	private final ExecutorService fetchPool;
+	private final Cache<String, String> contentByUrl = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofHours(24))
+		.build();
+
+	public ArticleContentExtractor(PolitenessLimiter politenessLimiter,
+		@Value("${crawler.extraction.enabled:false}") boolean enabled,
+		@Value("${crawler.extraction.max-bytes:1048576}") int maxBytes,
+		@Value("${crawler.extraction.timeout-ms:8000}") int timeoutMillis,
+		@Value("${crawler.extraction.threads:8}") int threads) {
+		this.politenessLimiter = politenessLimiter;
+		this.enabled = enabled;
+		this.maxBytes = maxBytes;
+		this.timeoutMillis = timeoutMillis;
+		AtomicInteger sequence = new AtomicInteger();
+		this.fetchPool = Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+			Thread thread = new Thread(runnable, "ArticleExtract-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 기사들의 원문 페이지를 동시에 받아, 추출한 본문이 수집된 요약보다 길면 originalContent 를 교체합니다.
+	 * 실패한 기사는 수집된 내용을 그대로 둡니다. 비활성화되어 있으면 아무것도 하지 않습니다.
+	 */
+	public void enrich(List<CareerNews> newsList) {
+		if (!enabled || newsList.isEmpty()) {
+			return;
+		}
+
+		List<CompletableFuture<Void>> tasks = new ArrayList<>();
+		for (CareerNews news : newsList) {
+			if (news.getSourceUrl() == null || news.getSourceUrl().isBlank()) {
+				continue;
+			}
+			tasks.add(CompletableFuture.runAsync(() -> {
+				String content = extract(news.getSourceUrl());
+				String current = news.getOriginalContent();
+				if (content != null && (current == null || content.length() > current.length())) {
+					news.setOriginalContent(content);
+				}
+			}, fetchPool));
+		}
+
+		try {
+			CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0])).join();
+		} catch (Exception e) {
+			log.warn("기사 본문 추출 중 오류: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 기사 페이지의 본문 텍스트를 반환합니다. 가져오지 못했거나 본문을 찾지 못하면 null 입니다.
+	 */
+	public String extract(String url) {
+		String key = canonicalize(url);
+		if (key == null) {
+			return null;
+		}
+		String cached = contentByUrl.getIfPresent(key);
+		if (cached == null) {
+			cached = fetchAndExtract(url, key);
+		}
+		return cached.isEmpty() ? null : cached;
+	}
+
+	private String fetchAndExtract(String url, String key) {
+		String content = NO_CONTENT;
+		try {
+			Document doc = politenessLimiter.run(URI.create(key).getHost(), () -> fetch(url));
+			if (doc != null) {
+				// 페이지가 알려준 대표 URL 로도 캐시해 추적 파라미터가 다른 링크를 같은 기사로 본다
+				String canonical = canonicalize(doc.select("link[rel=canonical]").attr("abs:href"));
+				String extracted = ReadabilityExtractor.STANDARD.extract(doc);
+				if (extracted != null) {
+					content = extracted;
+				}
+				if (canonical != null && !canonical.equals(key)) {
+					contentByUrl.put(canonical, content);
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return NO_CONTENT;
+		} catch (Exception e) {
+			log.debug("기사 본문 추출 실패 ({}): {}", url, e.getMessage());
+		}
+		contentByUrl.put(key, content);
+		return content;
+	}
+
+	// maxBodySize 로 응답을 최대 바이트 수까지만 읽고, timeout 은 연결부터 본문 읽기까지 전체에 적용된다
+	private Document fetch(String url) throws Exception {
+		Connection.Response response = Jsoup.connect(url)
+			.userAgent(USER_AGENT)
+			.timeout(timeoutMillis)
+			.maxBodySize(maxBytes)
+			.followRedirects(true)
+			.ignoreContentType(true)
+			.execute();
+
+		String contentType = response.contentType();
+		if (contentType == null || !contentType.toLowerCase(Locale.ROOT).contains("html")) {
+			return null;
+		}
+		return response.parse();
+	}
+
+	/**
+	 * 캐시 키로 쓸 URL. 스킴과 호스트를 소문자로, 프래그먼트와 추적용 쿼리 파라미터를 제거합니다.
+	 */
+	static String canonicalize(String url) {
+		if (url == null || url.isBlank()) {
+			return null;
+		}
+		try {
+			URI uri = new URI(url.trim());
+			if (uri.getScheme() == null || uri.getHost() == null) {
+				return null;
+			}
+			String scheme = uri.getScheme().toLowerCase(Locale.ROOT);
+			if (!scheme.equals("http") && !scheme.equals("https")) {
+				return null;
+			}
+
+			StringBuilder canonical = new StringBuilder(scheme).append("://")
+				.append(uri.getHost().toLowerCase(Locale.ROOT));
+			int port = uri.getPort();
+			if (port != -1 && !(scheme.equals("http") && port == 80) && !(scheme.equals("https") && port == 443)) {
+				canonical.append(':').append(port);
+			}
+			String path = uri.getRawPath();
+			canonical.append(path == null || path.isEmpty() ? "/" : path);
+
+			String query = stripTrackingParams(uri.getRawQuery());
+			if (!query.isEmpty()) {
+				canonical.append('?').append(query);
+			}
+			return canonical.toString();
+		} catch (URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private static String stripTrackingParams(String rawQuery) {
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return "";
+		}
+		StringBuilder kept = new StringBuilder();
+		for (String param : rawQuery.split("&")) {
+			String name = param.split("=", 2)[0].toLowerCase(Locale.ROOT);
+			if (name.isEmpty() || name.startsWith("utm_") || name.equals("fbclid") || name.equals("gclid")) {
+				continue;
+			}
+			if (!kept.isEmpty()) {
+				kept.append('&');
+			}
+			kept.append(param);
+		}
+		return kept.toString();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		fetchPool.shutdownNow();
+		try {
+			fetchPool.awaitTermination(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
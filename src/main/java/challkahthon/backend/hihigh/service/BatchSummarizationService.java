@@ -0,0 +1,356 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BatchSummarizationService {
+
+	private static final int DEFAULT_MAX_SENTENCES = 5;
+
+	private final SummarizationService summarizationService;
+	private final CareerNewsRepository careerNewsRepository;
+	private final ForkJoinPool summarizationPool;
+
+	private final AtomicLong totalSummarized = new AtomicLong();
+	private final AtomicLong totalItemNanos = new AtomicLong();
+	private volatile double lastJobThroughput = 0.0;
+
+	private final AtomicLong backfillIds = new AtomicLong();
+	private volatile BackfillJob backfill;
+	private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "SummaryBackfill");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * 여러 텍스트를 병렬로 요약합니다. 결과는 입력 순서를 유지합니다.
+	 * @param texts 요약할 텍스트 목록
+	 * @param maxSentences 요약 최대 문장 수
+	 * @return 진행 상황 조회와 취소가 가능한 배치 작업
+	 */
+	public BatchJob summarizeTexts(List<String> texts, int maxSentences) {
+		BatchJob job = new BatchJob(new ArrayList<>(texts), maxSentences);
+		if (job.size() == 0) {
+			job.finish();
+			return job;
+		}
+
+		summarizationPool.execute(() -> {
+			try {
+				new SummarizeRange(job, 0, job.size()).invoke();
+				job.finish();
+			} catch (Throwable t) {
+				log.error("배치 요약 실패: {}", t.getMessage());
+				job.future.completeExceptionally(t);
+			}
+		});
+		return job;
+	}
+
+	/**
+	 * 뉴스 ID 목록의 본문을 병렬로 요약합니다. 존재하지 않는 ID는 빈 문자열로 채워집니다.
+	 */
+	public BatchJob summarizeNews(List<Long> newsIds, int maxSentences) {
+		Map<Long, CareerNews> newsById = careerNewsRepository.findAllById(newsIds).stream()
+			.collect(Collectors.toMap(CareerNews::getId, Function.identity()));
+
+		List<String> texts = newsIds.stream()
+			.map(newsById::get)
+			.map(news -> news != null && news.getOriginalContent() != null ? news.getOriginalContent() : "")
+			.collect(Collectors.toList());
+
+		return summarizeTexts(texts, maxSentences);
+	}
+
+	/**
+	 * 요약이 없는 기존 뉴스를 batchSize 단위로 채우는 백필을 백그라운드에서 시작합니다.
+	 * 백필은 한 번에 하나만 실행되며, 이미 실행 중이면 그 작업을 반환합니다.
+	 */
+	public synchronized BackfillJob startBackfill(int batchSize) {
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다: " + batchSize);
+		}
+		BackfillJob running = backfill;
+		if (running != null && running.isRunning()) {
+			return running;
+		}
+
+		BackfillJob job = new BackfillJob(backfillIds.incrementAndGet(), batchSize);
+		backfill = job;
+		backfillExecutor.execute(() -> runBackfill(job));
+		return job;
+	}
+
+	/**
+	 * 실행 중이거나 마지막으로 실행한 백필. 한 번도 실행하지 않았으면 null 입니다.
+	 */
+	public BackfillJob getBackfill() {
+		return backfill;
+	}
+
+	// 배치 요약을 기다리는 동안 요약 풀의 워커를 점유하지 않도록 전용 스레드에서 돈다
+	private void runBackfill(BackfillJob job) {
+		long lastId = 0L;
+		try {
+			while (!job.isCancelled()) {
+				List<CareerNews> batch = careerNewsRepository.findBySummaryIsNullAndIdGreaterThanOrderByIdAsc(
+					lastId, PageRequest.of(0, job.batchSize));
+				if (batch.isEmpty()) {
+					break;
+				}
+
+				List<String> texts = batch.stream()
+					.map(news -> news.getOriginalContent() != null ? news.getOriginalContent() : "")
+					.collect(Collectors.toList());
+				BatchJob batchJob = summarizeTexts(texts, DEFAULT_MAX_SENTENCES);
+				job.currentBatch = batchJob;
+				if (job.isCancelled()) {
+					batchJob.cancel();
+					break;
+				}
+
+				List<String> summaries;
+				try {
+					summaries = batchJob.await();
+				} catch (CancellationException e) {
+					break;
+				}
+				for (int i = 0; i < batch.size(); i++) {
+					String summary = summaries.get(i);
+					batch.get(i).setSummary(summary != null ? summary : "");
+				}
+				careerNewsRepository.saveAll(batch);
+
+				job.updated.addAndGet(batch.size());
+				lastId = batch.get(batch.size() - 1).getId();
+				log.info("요약 백필 {} 진행: {}개 완료 (최근 처리량 {}/s)", job.id, job.getUpdatedCount(),
+					String.format("%.2f", lastJobThroughput));
+			}
+			job.future.complete(job.getUpdatedCount());
+			log.info("요약 백필 {} 종료: {}개 저장{}", job.id, job.getUpdatedCount(), job.isCancelled() ? " (취소됨)" : "");
+		} catch (Exception e) {
+			log.error("요약 백필 {} 실패: {}", job.id, e.getMessage());
+			job.future.completeExceptionally(e);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		BackfillJob running = backfill;
+		if (running != null) {
+			running.cancel();
+		}
+		backfillExecutor.shutdownNow();
+	}
+
+	public BatchSummarizationStats getStats() {
+		long count = totalSummarized.get();
+		return BatchSummarizationStats.builder()
+			.totalSummarized(count)
+			.averageMillisPerItem(count > 0 ? totalItemNanos.get() / 1_000_000.0 / count : 0.0)
+			.lastJobThroughputPerSecond(lastJobThroughput)
+			.parallelism(summarizationPool.getParallelism())
+			.build();
+	}
+
+	private class SummarizeRange extends RecursiveAction {
+		private final BatchJob job;
+		private final int from;
+		private final int to;
+
+		SummarizeRange(BatchJob job, int from, int to) {
+			this.job = job;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			// 문서 하나가 충분히 무거우므로 단일 항목까지 분할해 다른 워커가 가져갈 수 있게 한다
+			if (to - from > 1) {
+				int mid = (from + to) >>> 1;
+				invokeAll(new SummarizeRange(job, from, mid), new SummarizeRange(job, mid, to));
+				return;
+			}
+			if (job.cancelled.get()) {
+				return;
+			}
+
+			long start = System.nanoTime();
+			job.results[from] = summarizationService.summarizeText(job.texts.get(from), job.maxSentences);
+			totalItemNanos.addAndGet(System.nanoTime() - start);
+			totalSummarized.incrementAndGet();
+			job.completed.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 실행 중인 배치 요약 작업
+	 */
+	public class BatchJob {
+		private final List<String> texts;
+		private final int maxSentences;
+		private final String[] results;
+		private final AtomicBoolean cancelled = new AtomicBoolean(false);
+		private final AtomicInteger completed = new AtomicInteger();
+		private final CompletableFuture<List<String>> future = new CompletableFuture<>();
+		private final long startNanos = System.nanoTime();
+		private volatile long endNanos = 0L;
+
+		private BatchJob(List<String> texts, int maxSentences) {
+			this.texts = texts;
+			this.maxSentences = maxSentences;
+			this.results = new String[texts.size()];
+		}
+
+		private void finish() {
+			endNanos = System.nanoTime();
+			lastJobThroughput = getThroughputPerSecond();
+			future.complete(Collections.unmodifiableList(Arrays.asList(results)));
+		}
+
+		public int size() {
+			return texts.size();
+		}
+
+		public int getCompletedCount() {
+			return completed.get();
+		}
+
+		public double getThroughputPerSecond() {
+			long end = endNanos != 0L ? endNanos : System.nanoTime();
+			double seconds = (end - startNanos) / 1_000_000_000.0;
+			return seconds > 0 ? completed.get() / seconds : 0.0;
+		}
+
+		/**
+		 * 아직 시작하지 않은 항목을 건너뜁니다. 이미 요약 중인 항목은 끝까지 처리됩니다.
+		 */
+		public boolean cancel() {
+			cancelled.set(true);
+			return future.cancel(false);
+		}
+
+		public boolean isCancelled() {
+			return cancelled.get();
+		}
+
+		public CompletableFuture<List<String>> getFuture() {
+			return future;
+		}
+
+		public List<String> await() {
+			return future.join();
+		}
+	}
+
+	/**
+	 * 백그라운드 요약 백필 작업. 배치마다 BatchJob 으로 요약하고 저장합니다.
+	 */
+	public class BackfillJob {
+		private final long id;
+		private final int batchSize;
+		private final AtomicInteger updated = new AtomicInteger();
+		private final AtomicBoolean cancelled = new AtomicBoolean(false);
+		private final CompletableFuture<Integer> future = new CompletableFuture<>();
+		private final LocalDateTime startedAt = LocalDateTime.now();
+		private final long startNanos = System.nanoTime();
+		private volatile BatchJob currentBatch;
+
+		private BackfillJob(long id, int batchSize) {
+			this.id = id;
+			this.batchSize = batchSize;
+		}
+
+		public long getId() {
+			return id;
+		}
+
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		public int getUpdatedCount() {
+			return updated.get();
+		}
+
+		public LocalDateTime getStartedAt() {
+			return startedAt;
+		}
+
+		public boolean isRunning() {
+			return !future.isDone();
+		}
+
+		public boolean isCancelled() {
+			return cancelled.get();
+		}
+
+		public boolean isFailed() {
+			return future.isCompletedExceptionally();
+		}
+
+		public double getThroughputPerSecond() {
+			double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+			return seconds > 0 ? updated.get() / seconds : 0.0;
+		}
+
+		/**
+		 * 진행 중인 배치의 남은 항목을 건너뛰고 다음 배치를 시작하지 않습니다. 이미 저장된 요약은 유지됩니다.
+		 */
+		public boolean cancel() {
+			if (!cancelled.compareAndSet(false, true)) {
+				return false;
+			}
+			BatchJob batch = currentBatch;
+			if (batch != null) {
+				batch.cancel();
+			}
+			return true;
+		}
+
+		/**
+		 * 백필이 끝날 때까지 기다린 뒤 저장한 뉴스 수를 반환합니다.
+		 */
+		public int await() {
+			return future.join();
+		}
+	}
+
+	@lombok.Builder
+	@lombok.Data
+	public static class BatchSummarizationStats {
+		private long totalSummarized;
+		private double averageMillisPerItem;
+		private double lastJobThroughputPerSecond;
+		private int parallelism;
+	}
+}
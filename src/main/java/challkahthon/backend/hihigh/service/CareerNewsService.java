@@ -1,9 +1,16 @@
 package challkahthon.backend.hihigh.service;
 
+import challkahthon.backend.hihigh.domain.dto.response.CursorPage;
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.CrawlJob;
 import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
 import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.NewsKeywordRepository;
 import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankedNews;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import challkahthon.backend.hihigh.utils.NewsCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
@@ -12,9 +19,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -25,49 +38,111 @@ public class CareerNewsService {
     private final CareerNewsRepository careerNewsRepository;
     private final UserRepository userRepository;
     private final PersonalizedCrawlerService personalizedCrawlerService;
-
-    @Transactional(readOnly = true)
-    public List<CareerNews> getPersonalizedNews(String username, String category, int size) {
+    private final NewsKeywordRepository newsKeywordRepository;
+    private final PersonalizedFeedService personalizedFeedService;
+    private final NewsSearchIndex newsSearchIndex;
+    private final CrawlJobService crawlJobService;
+
+    // 맞춤 피드 순서: 발행 시각 최신순(모르면 맨 뒤), 같으면 id 내림차순
+    private static final Comparator<RankedNews> FEED_ORDER = Comparator
+        .comparing(CareerNewsService::feedTime, Comparator.reverseOrder())
+        .thenComparing(RankedNews::newsId, Comparator.reverseOrder());
+
+    /**
+     * 관심사가 있으면 미리 계산된 맞춤 피드를 최신순으로 훑어 cursor 다음부터 size 개를 목록 형태로 읽습니다.
+     * 피드 커서는 (발행 시각, id) 위치이고, 관심사가 없으면 getLatestNewsByCategory 와 같은 최신 뉴스 커서를 씁니다.
+     * 피드를 아직 만들지 않은 사용자는 이 호출에서 피드를 저장하므로 읽기 전용 트랜잭션으로 두지 않습니다.
+     * size 가 1~100 범위를 벗어나거나 cursor 가 잘못되면 IllegalArgumentException 을 던집니다.
+     */
+    @Transactional
+    public CursorPage<CareerNewsListView> getPersonalizedNews(String username, String category, String cursor,
+            int size) {
+        NewsCursor.checkPageSize(size);
         User user = userRepository.findByLoginId(username)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-        Pageable pageable = PageRequest.of(0, size);
+        if (user.getInterests() == null || user.getInterests().trim().isEmpty()) {
+            return getLatestNewsByCategory(category, cursor, size);
+        }
 
-        List<CareerNews> allNews;
-        if (category != null && !category.trim().isEmpty()) {
-            allNews = careerNewsRepository.findNewsByCategory(category, pageable);
-        } else {
-            allNews = careerNewsRepository.findPersonalizedNews(pageable);
+        String categoryFilter = category != null && !category.trim().isEmpty() ? category : null;
+        RankedNews after = null;
+        if (cursor != null && !cursor.isBlank()) {
+            NewsCursor decoded = NewsCursor.decode(cursor);
+            after = new RankedNews(decoded.id(), 0, decoded.createdAt());
         }
 
-        // Filter news based on user interests
-        if (user.getInterests() != null && !user.getInterests().trim().isEmpty()) {
-            String[] interests = user.getInterests().split("[,，]");
-            return allNews.stream()
-                .filter(news -> {
-                    if (news.getUserInterests() == null) return false;
-                    for (String interest : interests) {
-                        if (news.getUserInterests().toLowerCase().contains(interest.toLowerCase().trim())) {
-                            return true;
-                        }
-                    }
-                    return false;
-                })
-                .toList();
+        Set<Long> seen = new HashSet<>();
+        List<RankedNews> feed = personalizedFeedService.getFeed(user).values().stream()
+            .flatMap(List::stream)
+            .sorted(FEED_ORDER)
+            .filter(news -> seen.add(news.newsId()))
+            .toList();
+        int from = 0;
+        while (after != null && from < feed.size() && FEED_ORDER.compare(feed.get(from), after) <= 0) {
+            from++;
         }
 
-        return allNews;
+        // 카테고리는 피드에 없으므로 size 개씩 끊어 읽으며 채운다. 다음 페이지 여부를 알기 위해 한 건 더 찾는다
+        List<CareerNewsListView> result = new ArrayList<>();
+        List<RankedNews> resultPositions = new ArrayList<>();
+        for (; from < feed.size() && result.size() <= size; from += size) {
+            List<RankedNews> chunk = feed.subList(from, Math.min(from + size, feed.size()));
+            Map<Long, CareerNewsListView> newsById = careerNewsRepository.findListViewsByIdIn(
+                    chunk.stream().map(RankedNews::newsId).toList()).stream()
+                .collect(Collectors.toMap(CareerNewsListView::getId, Function.identity()));
+            for (RankedNews position : chunk) {
+                CareerNewsListView news = newsById.get(position.newsId());
+                if (news == null || (categoryFilter != null && !categoryFilter.equals(news.getCategory()))) {
+                    continue;
+                }
+                result.add(news);
+                resultPositions.add(position);
+                if (result.size() > size) {
+                    break;
+                }
+            }
+        }
+
+        if (result.size() <= size) {
+            return new CursorPage<>(result, null);
+        }
+        RankedNews last = resultPositions.get(size - 1);
+        return new CursorPage<>(result.subList(0, size), new NewsCursor(feedTime(last), last.newsId()).encode());
     }
 
-    @Transactional(readOnly = true)
-    public List<CareerNews> getLatestNewsByCategory(String category) {
-        Pageable pageable = PageRequest.of(0, 20);
+    private static LocalDateTime feedTime(RankedNews news) {
+        return news.publishedAt() != null ? news.publishedAt() : LocalDateTime.MIN;
+    }
 
-        if (category != null && !category.trim().isEmpty()) {
-            return careerNewsRepository.findByCategoryOrderByCreatedAtDesc(category, pageable);
+    /**
+     * 최신순 뉴스 한 페이지. cursor 가 없으면 첫 페이지이며, 다음 페이지 커서는 결과의 nextCursor 로 전달됩니다.
+     * size 가 1~100 범위를 벗어나거나 cursor 가 잘못되면 IllegalArgumentException 을 던집니다.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<CareerNewsListView> getLatestNewsByCategory(String category, String cursor, int size) {
+        NewsCursor.checkPageSize(size);
+        // 한 건 더 읽어 다음 페이지 존재 여부를 판단한다
+        Pageable pageable = PageRequest.of(0, size + 1);
+        boolean hasCategory = category != null && !category.trim().isEmpty();
+
+        List<CareerNewsListView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = hasCategory
+                ? careerNewsRepository.findLatestListViewsByCategory(category, pageable)
+                : careerNewsRepository.findLatestListViews(pageable);
         } else {
-            return careerNewsRepository.findAllByOrderByCreatedAtDesc(pageable);
+            NewsCursor after = NewsCursor.decode(cursor);
+            rows = hasCategory
+                ? careerNewsRepository.findListViewPageAfterByCategory(category, after.createdAt(), after.id(), pageable)
+                : careerNewsRepository.findListViewPageAfter(after.createdAt(), after.id(), pageable);
+        }
+
+        if (rows.size() <= size) {
+            return new CursorPage<>(rows, null);
         }
+        List<CareerNewsListView> page = rows.subList(0, size);
+        return new CursorPage<>(page, NewsCursor.of(page.get(size - 1)).encode());
     }
 
     @Transactional(readOnly = true)
@@ -82,7 +157,7 @@ public class CareerNewsService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
         Pageable pageable = PageRequest.of(0, size);
-        return careerNewsRepository.findByInterestContaining(interest, pageable);
+        return careerNewsRepository.findByKeyword(InterestKeywords.normalize(interest), pageable);
     }
 
     @Transactional(readOnly = true)
@@ -98,62 +173,55 @@ public class CareerNewsService {
                     .build();
         }
 
-        List<String> interests = Arrays.stream(user.getInterests().split("[,，]"))
-                .map(String::trim)
-                .filter(interest -> !interest.isEmpty())
-                .collect(Collectors.toList());
-
-        List<CareerNews> allNews = careerNewsRepository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 100));
-
-        // Filter news based on user interests
-        List<CareerNews> personalizedNews = allNews.stream()
-            .filter(news -> {
-                if (news.getUserInterests() == null) return false;
-                for (String interest : interests) {
-                    if (news.getUserInterests().toLowerCase().contains(interest.toLowerCase())) {
-                        return true;
-                    }
-                }
-                return false;
-            })
-            .collect(Collectors.toList());
-
-        LocalDateTime lastWeek = LocalDateTime.now().minusWeeks(1);
-        long recentNewsCount = personalizedNews.stream()
-                .filter(news -> news.getCreatedAt() != null && news.getCreatedAt().isAfter(lastWeek))
-                .count();
+        Set<String> keywords = InterestKeywords.normalizedSet(user.getInterests());
+        long totalNewsCount = newsKeywordRepository.countNewsByKeywordNames(keywords);
+        long recentNewsCount = newsKeywordRepository.countNewsByKeywordNamesSince(keywords,
+                LocalDateTime.now().minusWeeks(1));
 
         return PersonalizedNewsStats.builder()
-                .totalPersonalizedNews(personalizedNews.size())
+                .totalPersonalizedNews((int) totalNewsCount)
                 .recentNewsCount(recentNewsCount)
                 .userInterests(user.getInterests())
                 .build();
     }
 
-    @Transactional
     public void triggerPersonalizedCrawling(String username) {
         personalizedCrawlerService.triggerPersonalizedCrawling(username);
         log.info("사용자 {}의 맞춤 뉴스 크롤링이 시작되었습니다", username);
     }
 
+    /**
+     * 관련도 순 검색 결과 상위 size 개. size 가 1~100 범위를 벗어나면 IllegalArgumentException 을 던집니다.
+     */
     @Transactional(readOnly = true)
-    public List<CareerNews> searchNewsByKeyword(String keyword, int size) {
-        Pageable pageable = PageRequest.of(0, size);
-        return careerNewsRepository.findByTitleContainingOrOriginalContentContainingOrderByCreatedAtDesc(
-            keyword, keyword, pageable);
-    }
+    public List<CareerNewsListView> searchNewsByKeyword(String keyword, int size) {
+        NewsCursor.checkPageSize(size);
+        if (!newsSearchIndex.isReady()) {
+            // 색인 구축 전에는 기존 LIKE 검색으로 응답한다
+            Pageable pageable = PageRequest.of(0, size);
+            return careerNewsRepository.searchListViews(keyword, pageable);
+        }
 
-    @Transactional
-    public void triggerGlobalPersonalizedCrawling() {
-        List<User> activeUsers = userRepository.findAll().stream()
-                .filter(user -> user.getInterests() != null && !user.getInterests().trim().isEmpty())
-                .toList();
+        List<Long> rankedIds = newsSearchIndex.search(keyword, size).stream()
+            .map(NewsSearchIndex.SearchHit::newsId)
+            .toList();
+        Map<Long, CareerNewsListView> newsById = careerNewsRepository.findListViewsByIdIn(rankedIds).stream()
+            .collect(Collectors.toMap(CareerNewsListView::getId, Function.identity()));
 
-        for (User user : activeUsers) {
-            personalizedCrawlerService.crawlPersonalizedNewsForUser(user);
-        }
+        return rankedIds.stream()
+            .map(newsById::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
 
-        log.info("전체 사용자 {}명의 맞춤 뉴스 크롤링이 시작되었습니다", activeUsers.size());
+    /**
+     * 전체 사용자 크롤링 회차를 등록합니다. 각 노드의 워커가 사용자별 태스크를 나눠 처리합니다.
+     */
+    @Transactional
+    public CrawlJob triggerGlobalPersonalizedCrawling() {
+        CrawlJob job = crawlJobService.createJob(CrawlJobService.manualRunKey());
+        log.info("전체 사용자 {}명의 맞춤 뉴스 크롤링이 등록되었습니다 (회차 {})", job.getTotalTasks(), job.getId());
+        return job;
     }
 
     @lombok.Builder
@@ -0,0 +1,242 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import challkahthon.backend.hihigh.domain.entity.CrawlJob;
+import challkahthon.backend.hihigh.domain.entity.CrawlTask;
+import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.enums.CrawlJobStatus;
+import challkahthon.backend.hihigh.domain.enums.CrawlTaskStatus;
+import challkahthon.backend.hihigh.repository.CrawlJobRepository;
+import challkahthon.backend.hihigh.repository.CrawlTaskRepository;
+import challkahthon.backend.hihigh.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 맞춤 뉴스 크롤링 회차(CrawlJob)와 사용자별 태스크(CrawlTask) 큐.
+ * 워커는 SKIP LOCKED 로 태스크를 나눠 가져가며, 처리 결과가 태스크마다 기록되므로 노드가 죽어도 남은 태스크부터 이어집니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlJobService {
+
+	public static final int MAX_ATTEMPTS = 3;
+	// 처리하는 동안 1/3 주기로 연장하므로 워커가 죽었을 때 다른 워커가 이어받기까지의 시간만 정한다
+	private static final Duration TASK_LEASE = Duration.ofMinutes(2);
+	private static final int TASK_INSERT_BATCH = 500;
+
+	private final CrawlJobRepository crawlJobRepository;
+	private final CrawlTaskRepository crawlTaskRepository;
+	private final UserRepository userRepository;
+
+	private final String workerId = UUID.randomUUID().toString();
+	private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "CrawlTask-heartbeat");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public static String dailyRunKey(LocalDate date) {
+		return "daily:" + date;
+	}
+
+	public static String manualRunKey() {
+		return "manual:" + LocalDateTime.now();
+	}
+
+	public boolean exists(String runKey) {
+		return crawlJobRepository.existsByRunKey(runKey);
+	}
+
+	/**
+	 * 관심사가 설정된 사용자마다 태스크를 만들어 회차를 등록합니다. 같은 회차 키는 유니크 제약으로 한 번만 등록됩니다.
+	 */
+	@Transactional
+	public CrawlJob createJob(String runKey) {
+		CrawlJob job = crawlJobRepository.save(CrawlJob.builder()
+			.runKey(runKey)
+			.status(CrawlJobStatus.RUNNING)
+			.createdAt(LocalDateTime.now())
+			.build());
+
+		int total = 0;
+		long lastUserId = 0L;
+		while (true) {
+			List<User> users = userRepository.findUsersWithInterestsAfter(lastUserId,
+				PageRequest.of(0, TASK_INSERT_BATCH));
+			if (users.isEmpty()) {
+				break;
+			}
+
+			List<CrawlTask> tasks = new ArrayList<>();
+			for (User user : users) {
+				tasks.add(CrawlTask.builder()
+					.jobId(job.getId())
+					.userId(user.getId())
+					.status(CrawlTaskStatus.PENDING)
+					.build());
+			}
+			crawlTaskRepository.saveAll(tasks);
+			total += tasks.size();
+			lastUserId = users.get(users.size() - 1).getId();
+		}
+
+		job.setTotalTasks(total);
+		log.info("크롤링 회차 {} 등록: 태스크 {}개", runKey, total);
+		return job;
+	}
+
+	/**
+	 * 대기 중이거나 임대가 만료된 태스크를 최대 limit 개 가져옵니다. 다른 워커가 잠근 태스크는 건너뜁니다.
+	 */
+	@Transactional
+	public List<CrawlTask> claimTasks(int limit) {
+		List<Long> ids = crawlTaskRepository.lockClaimable(MAX_ATTEMPTS, limit);
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		crawlTaskRepository.markClaimed(ids, workerId, TASK_LEASE.toSeconds());
+		return crawlTaskRepository.findAllById(ids);
+	}
+
+	/**
+	 * 태스크를 처리하는 동안 임대를 주기적으로 연장합니다. 처리가 끝나면 close 로 연장을 멈춰야 합니다.
+	 */
+	public TaskLease holdLease(CrawlTask task) {
+		TaskLease lease = new TaskLease(task.getId());
+		long period = Math.max(1L, TASK_LEASE.toMillis() / 3);
+		lease.renewal = heartbeat.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+		return lease;
+	}
+
+	public void completeTask(CrawlTask task) {
+		finishTask(task, CrawlTaskStatus.DONE, null);
+	}
+
+	/**
+	 * 실패한 태스크는 재시도 한도 안이면 대기 상태로 되돌립니다.
+	 */
+	public void failTask(CrawlTask task, String error) {
+		CrawlTaskStatus status = task.getAttempts() < MAX_ATTEMPTS ? CrawlTaskStatus.PENDING : CrawlTaskStatus.FAILED;
+		finishTask(task, status, error);
+	}
+
+	/**
+	 * 가져간 워커가 죽은 채 재시도 한도에 닿은 태스크를 실패 처리하고, 남은 태스크가 없는 회차를 완료합니다.
+	 */
+	public void reapExpiredTasks() {
+		int failed = crawlTaskRepository.failExhausted(MAX_ATTEMPTS, "재시도 한도 초과");
+		if (failed > 0) {
+			log.warn("재시도 한도를 넘긴 크롤링 태스크 {}개 실패 처리", failed);
+		}
+		crawlJobRepository.completeFinishedJobs();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeat.shutdownNow();
+	}
+
+	@Transactional(readOnly = true)
+	public CrawlJobProgress getProgress(Long jobId) {
+		CrawlJob job = crawlJobRepository.findById(jobId)
+			.orElseThrow(() -> new RuntimeException("크롤링 회차를 찾을 수 없습니다: " + jobId));
+		return toProgress(job);
+	}
+
+	@Transactional(readOnly = true)
+	public List<CrawlJobProgress> getRecentProgress() {
+		return crawlJobRepository.findTop20ByOrderByIdDesc().stream()
+			.map(this::toProgress)
+			.toList();
+	}
+
+	private void finishTask(CrawlTask task, CrawlTaskStatus status, String error) {
+		String trimmed = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+		if (crawlTaskRepository.finish(task.getId(), workerId, status.name(), trimmed) == 0) {
+			log.warn("크롤링 태스크 {}의 임대가 만료되어 다른 워커가 가져갔습니다", task.getId());
+			return;
+		}
+		if (status != CrawlTaskStatus.PENDING) {
+			crawlJobRepository.completeFinishedJobs();
+		}
+	}
+
+	// 진행률은 끝난(성공+실패) 태스크 비율, 남은 시간은 지금까지의 평균 처리 속도로 추정한다
+	private CrawlJobProgress toProgress(CrawlJob job) {
+		Map<CrawlTaskStatus, Long> counts = new EnumMap<>(CrawlTaskStatus.class);
+		crawlTaskRepository.countByStatus(job.getId())
+			.forEach(view -> counts.put(view.getStatus(), view.getTaskCount()));
+
+		long done = counts.getOrDefault(CrawlTaskStatus.DONE, 0L);
+		long failed = counts.getOrDefault(CrawlTaskStatus.FAILED, 0L);
+		long finished = done + failed;
+		long total = job.getTotalTasks();
+		double percent = total == 0 ? 100.0 : Math.round(finished * 1000.0 / total) / 10.0;
+
+		Long etaSeconds = null;
+		if (job.getStatus() == CrawlJobStatus.COMPLETED) {
+			etaSeconds = 0L;
+		} else if (finished > 0 && job.getCreatedAt() != null) {
+			long elapsed = Duration.between(job.getCreatedAt(), LocalDateTime.now()).toSeconds();
+			etaSeconds = elapsed * (total - finished) / finished;
+		}
+
+		return new CrawlJobProgress(job.getId(), job.getRunKey(), job.getStatus(), total,
+			counts.getOrDefault(CrawlTaskStatus.PENDING, 0L), counts.getOrDefault(CrawlTaskStatus.RUNNING, 0L),
+			done, failed, percent, etaSeconds, job.getCreatedAt(), job.getCompletedAt());
+	}
+
+	public final class TaskLease implements AutoCloseable {
+
+		private final Long taskId;
+		private volatile ScheduledFuture<?> renewal;
+
+		private TaskLease(Long taskId) {
+			this.taskId = taskId;
+		}
+
+		private void renew() {
+			try {
+				if (crawlTaskRepository.renewLease(taskId, workerId, TASK_LEASE.toSeconds()) == 0) {
+					log.warn("크롤링 태스크 {}의 임대를 다른 워커가 가져갔습니다", taskId);
+					close();
+				}
+			} catch (Exception e) {
+				// 일시적인 DB 오류는 다음 주기에 다시 시도한다
+				log.warn("크롤링 태스크 {} 임대 연장 실패: {}", taskId, e.getMessage());
+			}
+		}
+
+		@Override
+		public void close() {
+			ScheduledFuture<?> future = renewal;
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+	}
+
+	public record CrawlJobProgress(Long jobId, String runKey, CrawlJobStatus status, long totalTasks,
+		long pendingTasks, long runningTasks, long doneTasks, long failedTasks, double progressPercent,
+		Long etaSeconds, LocalDateTime createdAt, LocalDateTime completedAt) {
+	}
+}
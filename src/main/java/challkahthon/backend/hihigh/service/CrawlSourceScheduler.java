@@ -0,0 +1,182 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.CrawlSourceSchedule;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.CrawlSourceScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 출처별 적응형 수집 주기.
+ * 한 번 읽을 때 가져오는 기사가 모두 새 기사면 놓친 기사가 있을 수 있으므로 주기를 절반으로 줄이고,
+ * 새 기사가 없으면 두 배로 늘립니다. 발행일 간격으로 추정한 발행 빈도로는 한 페이지가 넘치기 전에 다시 읽도록 상한을 둡니다.
+ * 요청이 실패한 회차는 주기 계산에 넣지 않고 잠시 뒤 다시 시도합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlSourceScheduler {
+
+	private static final long MIN_INTERVAL_MINUTES = 30;
+	private static final long MAX_INTERVAL_MINUTES = Duration.ofDays(7).toMinutes();
+	private static final long INITIAL_INTERVAL_MINUTES = 60;
+	private static final long RETRY_AFTER_FAILURE_MINUTES = 30;
+	private static final double BOOST = 0.5;
+	private static final double BACKOFF = 2.0;
+	private static final double RATE_SMOOTHING = 0.3;
+	private static final double MINUTES_PER_DAY = 24 * 60;
+
+	private final CrawlSourceScheduleRepository crawlSourceScheduleRepository;
+	private final CareerNewsRepository careerNewsRepository;
+
+	public static String newsApiKey(String query) {
+		return "newsapi:" + query;
+	}
+
+	public static String gNewsKey(String query) {
+		return "gnews:" + query;
+	}
+
+	public static String rssKey(String sourceName) {
+		return "rss:" + sourceName;
+	}
+
+	/**
+	 * 처음 보는 출처이거나 다음 수집 시각이 지났으면 true
+	 */
+	@Transactional(readOnly = true)
+	public boolean isDue(String sourceKey) {
+		return crawlSourceScheduleRepository.findById(sourceKey)
+			.map(schedule -> schedule.getNextCrawlAt() == null || !schedule.getNextCrawlAt().isAfter(LocalDateTime.now()))
+			.orElse(true);
+	}
+
+	/**
+	 * 한 번의 수집 결과로 발행 빈도 추정치와 다음 수집 시각을 갱신합니다. 저장하기 전에 호출해야 신규 기사 수가 맞습니다.
+	 *
+	 * @param fetched 이번에 가져온 기사
+	 * @param pageSize 한 번에 가져올 수 있는 최대 기사 수
+	 * @return 아직 저장되지 않은 기사. 호출한 쪽은 이 목록만 저장하면 됩니다
+	 */
+	public List<CareerNews> recordFetch(String sourceKey, List<CareerNews> fetched, int pageSize) {
+		Set<String> urls = fetched.stream()
+			.map(CareerNews::getSourceUrl)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		Set<String> existing = urls.isEmpty() ? Set.of() : careerNewsRepository.findExistingSourceUrls(urls);
+		List<CareerNews> newNews = fetched.stream()
+			.filter(news -> news.getSourceUrl() != null && !existing.contains(news.getSourceUrl()))
+			.toList();
+		int newItems = urls.size() - existing.size();
+
+		CrawlSourceSchedule schedule = findOrCreate(sourceKey);
+
+		Double observedRate = observePublishRate(fetched);
+		if (observedRate != null) {
+			schedule.setPublishRatePerDay(schedule.getTotalFetches() == 0
+				? observedRate
+				: RATE_SMOOTHING * observedRate + (1 - RATE_SMOOTHING) * schedule.getPublishRatePerDay());
+		}
+
+		long intervalMinutes = nextInterval(schedule.getIntervalMinutes(), newItems, pageSize,
+			schedule.getPublishRatePerDay());
+
+		LocalDateTime now = LocalDateTime.now();
+		schedule.setIntervalMinutes(intervalMinutes);
+		schedule.setLastCrawledAt(now);
+		schedule.setNextCrawlAt(now.plusMinutes(intervalMinutes));
+		schedule.setLastNewItems(newItems);
+		schedule.setTotalFetches(schedule.getTotalFetches() + 1);
+		schedule.setTotalNewItems(schedule.getTotalNewItems() + newItems);
+		if (save(schedule)) {
+			log.debug("출처 {}: 신규 {}개, 다음 수집까지 {}분", sourceKey, newItems, intervalMinutes);
+		}
+		return newNews;
+	}
+
+	/**
+	 * 요청이 실패한 회차(인증 오류, 429, 5xx 등). 새 기사가 없었던 것과 달리 주기를 늘리지 않고 잠시 뒤 다시 시도합니다.
+	 */
+	public void recordFailure(String sourceKey) {
+		CrawlSourceSchedule schedule = findOrCreate(sourceKey);
+		long retryMinutes = retryDelay(schedule.getIntervalMinutes());
+		schedule.setNextCrawlAt(LocalDateTime.now().plusMinutes(retryMinutes));
+		if (save(schedule)) {
+			log.debug("출처 {} 수집 실패, {}분 뒤 재시도", sourceKey, retryMinutes);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public List<CrawlSourceSchedule> getSchedules() {
+		return crawlSourceScheduleRepository.findAllByOrderByNextCrawlAtAsc();
+	}
+
+	/**
+	 * 이번 회차의 신규 기사 수로 다음 수집 주기(분)를 정합니다.
+	 *
+	 * @param publishRatePerDay 추정 발행 빈도. 0 이면 상한을 두지 않습니다.
+	 */
+	static long nextInterval(long currentMinutes, int newItems, int pageSize, double publishRatePerDay) {
+		double interval = currentMinutes;
+		if (newItems == 0) {
+			interval *= BACKOFF;
+		} else if (newItems >= pageSize) {
+			interval *= BOOST;
+		}
+		if (publishRatePerDay > 0) {
+			interval = Math.min(interval, pageSize / publishRatePerDay * MINUTES_PER_DAY);
+		}
+		return Math.max(MIN_INTERVAL_MINUTES, Math.min(MAX_INTERVAL_MINUTES, Math.round(interval)));
+	}
+
+	// 원래 주기가 더 짧으면 그 주기를 지킨다
+	static long retryDelay(long currentMinutes) {
+		return Math.min(currentMinutes, RETRY_AFTER_FAILURE_MINUTES);
+	}
+
+	private CrawlSourceSchedule findOrCreate(String sourceKey) {
+		return crawlSourceScheduleRepository.findById(sourceKey)
+			.orElseGet(() -> CrawlSourceSchedule.builder()
+				.sourceKey(sourceKey)
+				.intervalMinutes(INITIAL_INTERVAL_MINUTES)
+				.build());
+	}
+
+	private boolean save(CrawlSourceSchedule schedule) {
+		try {
+			crawlSourceScheduleRepository.save(schedule);
+			return true;
+		} catch (DataIntegrityViolationException e) {
+			// 다른 노드가 같은 출처의 첫 기록을 먼저 저장했다. 다음 수집에서 갱신된다
+			log.debug("출처 {} 수집 주기 저장 경합: {}", schedule.getSourceKey(), e.getMessage());
+			return false;
+		}
+	}
+
+	// 발행일이 두 개 이상 있어야 간격을 잴 수 있다
+	private Double observePublishRate(List<CareerNews> fetched) {
+		List<LocalDateTime> published = fetched.stream()
+			.map(CareerNews::getPublishedDate)
+			.filter(Objects::nonNull)
+			.sorted()
+			.toList();
+		if (published.size() < 2) {
+			return null;
+		}
+		double spanDays = Duration.between(published.get(0), published.get(published.size() - 1)).toMinutes()
+			/ MINUTES_PER_DAY;
+		return spanDays > 0 ? (published.size() - 1) / spanDays : null;
+	}
+}
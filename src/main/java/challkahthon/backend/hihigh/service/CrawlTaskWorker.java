@@ -0,0 +1,72 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import challkahthon.backend.hihigh.domain.entity.CrawlTask;
+import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드마다 하나씩 돌며 크롤링 태스크를 한 건씩 가져와 처리합니다.
+ * 외부 뉴스 API 호출량을 고려해 노드당 동시에 한 명씩, 사용자 사이에 잠시 쉬며 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlTaskWorker {
+
+	private static final long PAUSE_BETWEEN_USERS_MS = 2000L;
+
+	private final CrawlJobService crawlJobService;
+	private final PersonalizedCrawlerService personalizedCrawlerService;
+	private final UserRepository userRepository;
+
+	@Value("${crawler.worker.enabled:true}")
+	private boolean enabled;
+
+	@Scheduled(fixedDelayString = "${crawler.worker.poll-interval-ms:10000}", initialDelay = 30000)
+	public void processTasks() {
+		if (!enabled) {
+			return;
+		}
+		crawlJobService.reapExpiredTasks();
+
+		while (!Thread.currentThread().isInterrupted()) {
+			List<CrawlTask> claimed = crawlJobService.claimTasks(1);
+			if (claimed.isEmpty()) {
+				return;
+			}
+			for (CrawlTask task : claimed) {
+				process(task);
+			}
+			try {
+				Thread.sleep(PAUSE_BETWEEN_USERS_MS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void process(CrawlTask task) {
+		try {
+			// 회차 등록 후 탈퇴한 사용자는 바로 완료 처리한다
+			Optional<User> user = userRepository.findById(task.getUserId());
+			if (user.isPresent()) {
+				try (CrawlJobService.TaskLease lease = crawlJobService.holdLease(task)) {
+					personalizedCrawlerService.crawlAndSaveForUser(user.get());
+				}
+			}
+			crawlJobService.completeTask(task);
+		} catch (Exception e) {
+			log.error("크롤링 태스크 {} (사용자 ID {}) 실패: {}", task.getId(), task.getUserId(), e.getMessage());
+			crawlJobService.failTask(task, e.getMessage());
+		}
+	}
+}
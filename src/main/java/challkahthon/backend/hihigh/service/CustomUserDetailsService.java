@@ -1,5 +1,6 @@
 package challkahthon.backend.hihigh.service;
 
+import java.time.Duration;
 import java.util.Optional;
 
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
@@ -7,6 +8,11 @@ import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import challkahthon.backend.hihigh.domain.entity.User;
 import challkahthon.backend.hihigh.domain.enums.UserRole;
@@ -14,6 +20,8 @@ import challkahthon.backend.hihigh.dto.DesiredOccupationUpdateDto;
 import challkahthon.backend.hihigh.dto.GoalsUpdateDto;
 import challkahthon.backend.hihigh.dto.InterestsUpdateDto;
 import challkahthon.backend.hihigh.dto.UserUpdateDto;
+import challkahthon.backend.hihigh.event.DomainEventPublisher;
+import challkahthon.backend.hihigh.event.UserInterestsChangedEvent;
 import challkahthon.backend.hihigh.jwt.CustomOauth2UserDetails;
 import challkahthon.backend.hihigh.jwt.OAuth2UserInfo;
 import challkahthon.backend.hihigh.jwt.google.GoogleUserDetails;
@@ -26,8 +34,19 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class CustomUserDetailsService extends DefaultOAuth2UserService {
 
+	private static final Duration PRINCIPAL_TTL = Duration.ofSeconds(60);
+
 	private final UserRepository userRepository;
 	private final ChatService chatService;
+	private final PersonalizedFeedService personalizedFeedService;
+	private final KeywordLinkService keywordLinkService;
+	private final DomainEventPublisher domainEventPublisher;
+
+	// JWT 인증 시 매 요청 DB 조회를 피하기 위한 loginId → principal 캐시. 역할 변경 등은 TTL 안에 반영된다
+	private final Cache<String, CustomOauth2UserDetails> principals = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(PRINCIPAL_TTL)
+		.build();
 
 	public User findByUserName(String userName) {
 		return userRepository.findByName(userName).orElse(null);
@@ -37,6 +56,28 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		return userRepository.findByLoginId(loginId).orElse(null);
 	}
 
+	/**
+	 * 인증 필터에서 사용할 principal 을 반환합니다. 캐시에 없을 때만 DB 를 조회하며, 없는 사용자는 캐시하지 않습니다.
+	 */
+	public CustomOauth2UserDetails loadPrincipal(String loginId) {
+		return principals.get(loginId, key -> {
+			User user = findByLoginId(key);
+			return user != null ? new CustomOauth2UserDetails(user, null) : null;
+		});
+	}
+
+	public void evictPrincipal(String loginId) {
+		if (loginId != null) {
+			principals.invalidate(loginId);
+		}
+	}
+
+	// 커밋 전에 비운 사이 다른 요청이 옛 값을 다시 캐시했을 수 있어 커밋 뒤에 한 번 더 비운다. 다른 노드의 변경도 TTL 을 기다리지 않는다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserInterestsChanged(UserInterestsChangedEvent event) {
+		evictPrincipal(event.loginId());
+	}
+
 	/**
 	 * 사용자의 추가 정보(관심사, 목표, 희망직종)를 업데이트합니다.
 	 *
@@ -44,13 +85,18 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 	 * @param updateDto 업데이트할 사용자 정보
 	 * @return 업데이트된 사용자 정보
 	 */
+	@Transactional
 	public User updateUserInfo(String userName, UserUpdateDto updateDto) {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setInterests(updateDto.getInterests());
 			user.setGoals(updateDto.getGoals());
 			user.setDesiredOccupation(updateDto.getDesiredOccupation());
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			keywordLinkService.syncUserKeywords(saved);
+			domainEventPublisher.publish(UserInterestsChangedEvent.of(saved));
+			return saved;
 		}
 		return null;
 	}
@@ -62,11 +108,16 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 	 * @param updateDto 업데이트할 관심사 정보
 	 * @return 업데이트된 사용자 정보
 	 */
+	@Transactional
 	public User updateUserInterests(String userName, InterestsUpdateDto updateDto) {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setInterests(updateDto.getInterests());
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			keywordLinkService.syncUserKeywords(saved);
+			domainEventPublisher.publish(UserInterestsChangedEvent.of(saved));
+			return saved;
 		}
 		return null;
 	}
@@ -82,7 +133,9 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setGoals(updateDto.getGoals());
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			return saved;
 		}
 		return null;
 	}
@@ -98,7 +151,9 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setDesiredOccupation(updateDto.getDesiredOccupation());
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			return saved;
 		}
 		return null;
 	}
@@ -109,11 +164,16 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 	 * @param userName 사용자 이름
 	 * @return 업데이트된 사용자 정보
 	 */
+	@Transactional
 	public User deleteUserInterests(String userName) {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setInterests(null);
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			keywordLinkService.syncUserKeywords(saved);
+			domainEventPublisher.publish(UserInterestsChangedEvent.of(saved));
+			return saved;
 		}
 		return null;
 	}
@@ -128,7 +188,9 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setGoals(null);
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			return saved;
 		}
 		return null;
 	}
@@ -143,7 +205,9 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			user.setDesiredOccupation(null);
-			return userRepository.save(user);
+			User saved = userRepository.save(user);
+			evictPrincipal(saved.getLoginId());
+			return saved;
 		}
 		return null;
 	}
@@ -158,6 +222,9 @@ public class CustomUserDetailsService extends DefaultOAuth2UserService {
 		User user = findByLoginId(userName);
 		if (user != null) {
 			userRepository.delete(user);
+			evictPrincipal(user.getLoginId());
+			keywordLinkService.onUserDeleted(user.getId());
+			personalizedFeedService.onUserDeleted(user.getId());
 			return true;
 		}
 		return false;
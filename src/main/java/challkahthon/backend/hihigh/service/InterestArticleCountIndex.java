@@ -0,0 +1,82 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import challkahthon.backend.hihigh.event.ArticleDeletedEvent;
+import challkahthon.backend.hihigh.event.ArticlesIngestedEvent;
+import challkahthon.backend.hihigh.repository.NewsKeywordRepository;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 관심사 → 맞춤 뉴스 수.
+ * 한 기사가 여러 키워드에 연결될 수 있으므로 news_keyword 인덱스에서 중복 없이 센 값을 관심사 문자열별로 캐시하고,
+ * 기사 저장/삭제 이벤트를 받으면 비웁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InterestArticleCountIndex {
+
+	private final NewsKeywordRepository newsKeywordRepository;
+
+	// 사용자 관심사 문자열 → 맞춤 뉴스 수. 관심사가 바뀌면 키가 달라지고, 기사 수가 바뀌면 전부 비운다
+	private final Cache<String, Long> userCounts = Caffeine.newBuilder()
+		.maximumSize(100_000)
+		.build();
+	// 기사 수가 바뀔 때마다 올린다. 세는 도중에 바뀌었으면 센 값을 캐시에 남기지 않는다
+	private final AtomicLong generation = new AtomicLong();
+
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticlesIngested(ArticlesIngestedEvent event) {
+		if (!event.newsIds().isEmpty()) {
+			invalidateAll();
+		}
+	}
+
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticleDeleted(ArticleDeletedEvent event) {
+		invalidateAll();
+	}
+
+	private void invalidateAll() {
+		generation.incrementAndGet();
+		userCounts.invalidateAll();
+	}
+
+	/**
+	 * 사용자 관심사(쉼표 구분) 중 하나 이상에 연결된 기사 수
+	 */
+	public long countFor(String userInterests) {
+		if (userInterests == null || userInterests.trim().isEmpty()) {
+			return 0L;
+		}
+		Long cached = userCounts.getIfPresent(userInterests);
+		if (cached != null) {
+			return cached;
+		}
+
+		// COUNT 쿼리는 캐시 잠금 밖에서 돈다. 넣은 뒤 세대가 바뀌었으면 방금 넣은 값을 지운다
+		long seen = generation.get();
+		long count = computeCount(userInterests);
+		userCounts.put(userInterests, count);
+		if (generation.get() != seen) {
+			userCounts.invalidate(userInterests);
+		}
+		return count;
+	}
+
+	private long computeCount(String userInterests) {
+		Set<String> keywords = InterestKeywords.normalizedSet(userInterests);
+		return keywords.isEmpty() ? 0L : newsKeywordRepository.countNewsByKeywordNames(keywords);
+	}
+}
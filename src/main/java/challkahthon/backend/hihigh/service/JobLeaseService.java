@@ -0,0 +1,130 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Service;
+
+import challkahthon.backend.hihigh.repository.ScheduledJobLeaseRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DB 임대(lease) 기반 스케줄 작업 잠금.
+ * 임대를 얻은 노드만 작업을 실행하고, 실행하는 동안 임대 기간의 1/3 마다 연장합니다.
+ * 노드가 죽어 연장이 끊기면 임대가 만료되어 다른 노드가 가져갈 수 있습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobLeaseService {
+
+	private final ScheduledJobLeaseRepository scheduledJobLeaseRepository;
+
+	private final String owner = UUID.randomUUID().toString();
+	// 같은 노드의 다른 스케줄 스레드가 이미 보유한 임대를 다시 얻지 않도록 한다
+	private final Set<String> heldJobs = ConcurrentHashMap.newKeySet();
+	private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "JobLease-heartbeat");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * 임대를 얻으면 연장이 시작된 JobLease 를, 다른 노드가 보유 중이면 빈 값을 반환합니다.
+	 * 작업이 끝나면 close 로 연장을 멈추고 임대를 돌려줘야 합니다.
+	 */
+	public Optional<JobLease> tryAcquire(String jobName, Duration leaseDuration) {
+		if (!heldJobs.add(jobName)) {
+			return Optional.empty();
+		}
+
+		try {
+			scheduledJobLeaseRepository.insertIfAbsent(jobName);
+			if (scheduledJobLeaseRepository.tryAcquire(jobName, owner, leaseDuration.toSeconds()) == 0) {
+				heldJobs.remove(jobName);
+				return Optional.empty();
+			}
+		} catch (RuntimeException e) {
+			heldJobs.remove(jobName);
+			throw e;
+		}
+
+		JobLease lease = new JobLease(jobName, leaseDuration);
+		long period = Math.max(1L, leaseDuration.toMillis() / 3);
+		lease.renewal = heartbeat.scheduleAtFixedRate(lease::renew, period, period, TimeUnit.MILLISECONDS);
+		return Optional.of(lease);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		heartbeat.shutdownNow();
+	}
+
+	public final class JobLease implements AutoCloseable {
+
+		private final String jobName;
+		private final long leaseSeconds;
+		private volatile boolean held = true;
+		private volatile ScheduledFuture<?> renewal;
+
+		private JobLease(String jobName, Duration leaseDuration) {
+			this.jobName = jobName;
+			this.leaseSeconds = leaseDuration.toSeconds();
+		}
+
+		/**
+		 * 임대를 아직 보유 중인지 여부. 연장에 실패했다면 다른 노드가 이어받았을 수 있으므로 작업을 멈춰야 합니다.
+		 */
+		public boolean isHeld() {
+			return held;
+		}
+
+		private void renew() {
+			try {
+				if (scheduledJobLeaseRepository.renew(jobName, owner, leaseSeconds) == 0) {
+					lost();
+				}
+			} catch (Exception e) {
+				// 일시적인 DB 오류는 다음 주기에 다시 시도한다. 그 사이 만료되면 다음 연장에서 잃은 것으로 확인된다
+				log.warn("작업 {} 임대 연장 실패: {}", jobName, e.getMessage());
+			}
+		}
+
+		private void lost() {
+			if (held) {
+				held = false;
+				log.warn("작업 {} 의 임대를 다른 노드가 가져갔습니다", jobName);
+			}
+			cancelRenewal();
+		}
+
+		private void cancelRenewal() {
+			ScheduledFuture<?> future = renewal;
+			if (future != null) {
+				future.cancel(false);
+			}
+		}
+
+		@Override
+		public void close() {
+			cancelRenewal();
+			try {
+				if (held) {
+					held = false;
+					scheduledJobLeaseRepository.release(jobName, owner);
+				}
+			} finally {
+				heldJobs.remove(jobName);
+			}
+		}
+	}
+}
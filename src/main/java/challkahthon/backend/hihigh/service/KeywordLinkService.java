@@ -0,0 +1,225 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.Keyword;
+import challkahthon.backend.hihigh.domain.entity.NewsKeyword;
+import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.entity.UserKeyword;
+import challkahthon.backend.hihigh.domain.projection.NewsKeywordNameView;
+import challkahthon.backend.hihigh.domain.projection.NewsKeywordSourceView;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.KeywordRepository;
+import challkahthon.backend.hihigh.repository.NewsKeywordRepository;
+import challkahthon.backend.hihigh.repository.UserKeywordRepository;
+import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 관심사와 기사 키워드를 keyword 사전과 연결 테이블(user_keyword, news_keyword)에 반영합니다.
+ * 맞춤 뉴스 조회는 문자열 LIKE 대신 이 연결 테이블의 인덱스를 따라갑니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KeywordLinkService {
+
+	private static final int BACKFILL_BATCH_SIZE = 500;
+
+	private final KeywordRepository keywordRepository;
+	private final UserKeywordRepository userKeywordRepository;
+	private final NewsKeywordRepository newsKeywordRepository;
+	private final UserRepository userRepository;
+	private final CareerNewsRepository careerNewsRepository;
+
+	/**
+	 * 연결 테이블이 도입되기 전에 저장된 사용자/기사를 채웁니다. 이미 연결된 행은 건너뛰므로 매 기동마다 실행해도 됩니다.
+	 */
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfillOnStartup() {
+		long start = System.currentTimeMillis();
+
+		int users = 0;
+		for (User user : userRepository.findUsersWithUnlinkedInterests()) {
+			insertUserLinks(user);
+			users++;
+		}
+
+		int articles = 0;
+		long lastId = 0L;
+		while (true) {
+			List<NewsKeywordSourceView> batch = careerNewsRepository.findUnlinkedKeywordSources(lastId,
+				PageRequest.of(0, BACKFILL_BATCH_SIZE));
+			if (batch.isEmpty()) {
+				break;
+			}
+
+			Map<Long, Set<String>> namesByNews = new HashMap<>();
+			Map<Long, LocalDateTime> createdAtByNews = new HashMap<>();
+			for (NewsKeywordSourceView view : batch) {
+				namesByNews.put(view.getId(),
+					InterestKeywords.articleKeywordNames(view.getUserInterests(), view.getKeywords()));
+				createdAtByNews.put(view.getId(), view.getCreatedAt());
+			}
+			insertNewsLinks(namesByNews, createdAtByNews);
+
+			articles += batch.size();
+			lastId = batch.get(batch.size() - 1).getId();
+		}
+
+		int wordLinked = backfillWordLinks();
+
+		if (users > 0 || articles > 0 || wordLinked > 0) {
+			log.info("키워드 연결 백필 완료: 사용자 {}명, 기사 {}개, 단어 연결 추가 기사 {}개 ({}ms)", users, articles,
+				wordLinked, System.currentTimeMillis() - start);
+		}
+	}
+
+	// 단어별 연결이 도입되기 전에 연결된 기사에 여러 단어 키워드의 각 단어 연결을 더한다. 이미 있는 연결은 건너뛴다
+	private int backfillWordLinks() {
+		int articles = 0;
+		long lastId = 0L;
+		while (true) {
+			List<NewsKeywordSourceView> batch = careerNewsRepository.findMultiWordKeywordSources(lastId,
+				PageRequest.of(0, BACKFILL_BATCH_SIZE));
+			if (batch.isEmpty()) {
+				break;
+			}
+
+			Map<Long, Set<String>> linkedByNews = new HashMap<>();
+			for (NewsKeywordNameView view : newsKeywordRepository.findLinkedNames(
+				batch.stream().map(NewsKeywordSourceView::getId).toList())) {
+				linkedByNews.computeIfAbsent(view.getNewsId(), id -> new HashSet<>()).add(view.getName());
+			}
+
+			Map<Long, Set<String>> namesByNews = new HashMap<>();
+			Map<Long, LocalDateTime> createdAtByNews = new HashMap<>();
+			for (NewsKeywordSourceView view : batch) {
+				Set<String> missing = InterestKeywords.articleKeywordNames(view.getUserInterests(), view.getKeywords());
+				missing.removeAll(linkedByNews.getOrDefault(view.getId(), Set.of()));
+				if (!missing.isEmpty()) {
+					namesByNews.put(view.getId(), missing);
+					createdAtByNews.put(view.getId(), view.getCreatedAt());
+				}
+			}
+			insertNewsLinks(namesByNews, createdAtByNews);
+
+			articles += namesByNews.size();
+			lastId = batch.get(batch.size() - 1).getId();
+		}
+		return articles;
+	}
+
+	@Transactional
+	public void syncUserKeywords(User user) {
+		userKeywordRepository.deleteByUserId(user.getId());
+		insertUserLinks(user);
+	}
+
+	@Transactional
+	public void onUserDeleted(Long userId) {
+		userKeywordRepository.deleteByUserId(userId);
+	}
+
+	@Transactional
+	public void linkArticles(List<CareerNews> articles) {
+		Map<Long, Set<String>> namesByNews = new HashMap<>();
+		Map<Long, LocalDateTime> createdAtByNews = new HashMap<>();
+		for (CareerNews news : articles) {
+			if (news.getId() != null) {
+				namesByNews.put(news.getId(),
+					InterestKeywords.articleKeywordNames(news.getUserInterests(), news.getKeywords()));
+				createdAtByNews.put(news.getId(), news.getCreatedAt());
+			}
+		}
+		insertNewsLinks(namesByNews, createdAtByNews);
+	}
+
+	@Transactional
+	public void onArticleDeleted(Long newsId) {
+		newsKeywordRepository.deleteByNewsId(newsId);
+	}
+
+	private void insertUserLinks(User user) {
+		List<String> names = new ArrayList<>(InterestKeywords.normalizedSet(user.getInterests()));
+		if (names.isEmpty()) {
+			return;
+		}
+
+		Map<String, Long> keywordIds = resolveKeywordIds(names);
+		List<UserKeyword> links = new ArrayList<>();
+		for (int order = 0; order < names.size(); order++) {
+			Long keywordId = keywordIds.get(names.get(order));
+			if (keywordId != null) {
+				links.add(UserKeyword.builder()
+					.userId(user.getId())
+					.keywordId(keywordId)
+					.keywordOrder(order)
+					.build());
+			}
+		}
+		userKeywordRepository.saveAll(links);
+	}
+
+	private void insertNewsLinks(Map<Long, Set<String>> namesByNews, Map<Long, LocalDateTime> createdAtByNews) {
+		Set<String> allNames = new LinkedHashSet<>();
+		namesByNews.values().forEach(allNames::addAll);
+		if (allNames.isEmpty()) {
+			return;
+		}
+
+		Map<String, Long> keywordIds = resolveKeywordIds(allNames);
+		List<NewsKeyword> links = new ArrayList<>();
+		namesByNews.forEach((newsId, names) -> {
+			for (String name : names) {
+				Long keywordId = keywordIds.get(name);
+				if (keywordId != null) {
+					links.add(NewsKeyword.builder()
+						.newsId(newsId)
+						.keywordId(keywordId)
+						.createdAt(createdAtByNews.get(newsId))
+						.build());
+				}
+			}
+		});
+		newsKeywordRepository.saveAll(links);
+	}
+
+	// 사전에 없는 키워드는 INSERT IGNORE 로 등록한 뒤 다시 읽는다. 콜레이션상 같은 값으로 취급되는 이름은 연결에서 빠진다
+	private Map<String, Long> resolveKeywordIds(Collection<String> names) {
+		Map<String, Long> ids = new HashMap<>();
+		for (Keyword keyword : keywordRepository.findByNameIn(names)) {
+			ids.put(keyword.getName(), keyword.getId());
+		}
+
+		List<String> missing = names.stream()
+			.filter(name -> !ids.containsKey(name))
+			.toList();
+		if (!missing.isEmpty()) {
+			missing.forEach(keywordRepository::insertIfAbsent);
+			for (Keyword keyword : keywordRepository.findByNameIn(missing)) {
+				ids.put(keyword.getName(), keyword.getId());
+			}
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,134 @@
+package challkahthon.backend.hihigh.service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import challkahthon.backend.hihigh.event.PersonalizedFeedChangedEvent;
+
+/**
+ * 직렬화된 메인 페이지 응답 캐시.
+ * 로그인 사용자는 힙 크기로 제한되는 W-TinyLFU 계층에, 내용이 고정인 게스트 응답은 정적 계층에 보관합니다.
+ * 기사 유입 시 세대 번호를 올려 전체를, 관심사 변경 시 해당 사용자 항목만 무효화합니다.
+ */
+@Component
+public class MainPageResponseCache {
+
+	// 키 문자열과 엔트리 노드를 대략적으로 합산한 엔트리당 고정 비용
+	private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+	private final MainPageService mainPageService;
+	private final ObjectMapper objectMapper;
+	private final Cache<UserKey, CachedResponse> userResponses;
+	private final AtomicLong generation = new AtomicLong();
+
+	private volatile CachedResponse guestResponse;
+
+	public MainPageResponseCache(MainPageService mainPageService, ObjectMapper objectMapper,
+		@Value("${main-page.cache.max-bytes:16777216}") long maxBytes,
+		@Value("${main-page.cache.ttl-minutes:10}") long ttlMinutes) {
+		this.mainPageService = mainPageService;
+		this.objectMapper = objectMapper;
+		this.userResponses = Caffeine.newBuilder()
+			.maximumWeight(maxBytes)
+			.weigher((UserKey key, CachedResponse response) ->
+				ENTRY_OVERHEAD_BYTES + key.loginId().length() * 2 + response.body().length)
+			.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+			.build();
+	}
+
+	/**
+	 * 캐시된 응답을 반환하고, 없으면 만들어 저장합니다. 응답 생성 중 오류는 캐시하지 않고 그대로 던집니다.
+	 */
+	public CachedResponse get(String loginId) {
+		if (loginId == null) {
+			CachedResponse guest = guestResponse;
+			if (guest == null) {
+				guest = serialize(mainPageService.buildMainPage(null));
+				guestResponse = guest;
+			}
+			return guest;
+		}
+		return userResponses.get(new UserKey(loginId, generation.get()),
+			key -> serialize(mainPageService.buildMainPage(key.loginId())));
+	}
+
+	// 피드가 반영된 트랜잭션이 커밋된 뒤에 비워야 이전 데이터로 다시 채워지지 않는다. 다른 노드의 피드 변경은 아웃박스로 전달된다
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onFeedChanged(PersonalizedFeedChangedEvent event) {
+		if (event.loginId() == null) {
+			invalidateAll();
+		} else {
+			invalidateUser(event.loginId());
+		}
+	}
+
+	public void invalidateUser(String loginId) {
+		if (loginId != null) {
+			userResponses.invalidate(new UserKey(loginId, generation.get()));
+		}
+	}
+
+	/**
+	 * 이전 세대 항목은 더 이상 조회되지 않고 크기 제한/TTL 에 따라 밀려납니다.
+	 * 무효화 직전에 시작된 응답 생성도 이전 세대 키에 저장되므로 새 요청에 노출되지 않습니다.
+	 */
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		userResponses.invalidateAll();
+	}
+
+	private CachedResponse serialize(Object response) {
+		try {
+			byte[] body = objectMapper.writeValueAsBytes(response);
+			return new CachedResponse(body, etagOf(body));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("메인 페이지 응답 직렬화 실패: " + e.getMessage(), e);
+		}
+	}
+
+	private static String etagOf(byte[] body) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+			return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	private record UserKey(String loginId, long generation) {
+	}
+
+	public record CachedResponse(byte[] body, String etag) {
+
+		/**
+		 * If-None-Match 헤더(쉼표로 구분된 ETag 목록, 약한 비교)가 이 응답과 일치하는지 확인합니다.
+		 */
+		public boolean matches(String ifNoneMatch) {
+			if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+				return false;
+			}
+			for (String candidate : ifNoneMatch.split(",")) {
+				String tag = candidate.trim();
+				if (tag.startsWith("W/")) {
+					tag = tag.substring(2);
+				}
+				if (tag.equals("*") || tag.equals(etag)) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.event.ArticleDeletedEvent;
+import challkahthon.backend.hihigh.event.ArticlesIngestedEvent;
+import challkahthon.backend.hihigh.event.DomainEventPublisher;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 기사 저장/삭제와 키워드 연결, 도메인 이벤트(아웃박스 포함) 기록을 한 트랜잭션으로 묶습니다.
+ * 원문 수집이나 본문 추출 같은 네트워크 작업은 호출하는 쪽에서 트랜잭션 밖에서 끝낸 뒤 넘겨야 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class NewsIngestService {
+
+	private final CareerNewsRepository careerNewsRepository;
+	private final KeywordLinkService keywordLinkService;
+	private final DomainEventPublisher domainEventPublisher;
+
+	@Transactional
+	public List<CareerNews> ingest(List<CareerNews> newsList) {
+		if (newsList.isEmpty()) {
+			return List.of();
+		}
+
+		List<CareerNews> savedNews = careerNewsRepository.saveAll(newsList);
+		keywordLinkService.linkArticles(savedNews);
+		domainEventPublisher.publish(ArticlesIngestedEvent.of(savedNews));
+		return savedNews;
+	}
+
+	/**
+	 * 기사를 삭제하고 삭제 이벤트를 기록합니다. 없는 기사면 false 를 반환합니다.
+	 */
+	@Transactional
+	public boolean delete(Long newsId) {
+		if (!careerNewsRepository.existsById(newsId)) {
+			return false;
+		}
+
+		careerNewsRepository.deleteById(newsId);
+		keywordLinkService.onArticleDeleted(newsId);
+		domainEventPublisher.publish(ArticleDeletedEvent.of(newsId));
+		return true;
+	}
+}
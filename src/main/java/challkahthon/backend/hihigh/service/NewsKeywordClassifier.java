@@ -0,0 +1,147 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.projection.KeywordCandidateView;
+import challkahthon.backend.hihigh.domain.projection.NewsContentView;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankedNews;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankingCandidate;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import challkahthon.backend.hihigh.utils.KeywordDictionary;
+import challkahthon.backend.hihigh.utils.KeywordMatcher;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 관심사 키워드별로 뉴스를 분류합니다.
+ * 메인 페이지 피드 생성과 신규 기사 반영에서 같은 규칙을 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NewsKeywordClassifier {
+
+	public static final int NEWS_PER_KEYWORD = 8;
+	private static final int CANDIDATES_PER_KEYWORD = 50;
+
+	private final CareerNewsRepository careerNewsRepository;
+	private final KeywordDictionary keywordDictionary;
+	private final NewsRankingService newsRankingService;
+
+	public List<String> parseUserInputKeywords(String interests) {
+		return InterestKeywords.parse(interests);
+	}
+
+	/**
+	 * 키워드 순서대로 후보 뉴스를 분류하고 키워드별 점수 상위 NEWS_PER_KEYWORD 개를 반환합니다.
+	 * 한 뉴스는 먼저 매칭된 키워드에만 속합니다.
+	 * 모든 키워드의 후보를 한 번에 조회하고, 제목으로 판별되지 않는 후보만 본문을 추가로 읽습니다.
+	 */
+	public Map<String, List<RankedNews>> classifyNewsByUserKeywords(List<String> userKeywords) {
+		if (userKeywords.isEmpty()) {
+			return Collections.emptyMap();
+		}
+
+		// 후보는 정규화된(소문자) 키워드 이름으로 돌아오므로 같은 기준으로 사용자 키워드에 되돌려 붙인다
+		Map<String, List<KeywordCandidateView>> candidatesByKeyword = new HashMap<>();
+		Set<String> keywordNames = new LinkedHashSet<>();
+		userKeywords.forEach(keyword -> keywordNames.add(InterestKeywords.normalize(keyword)));
+		for (KeywordCandidateView candidate : careerNewsRepository.findKeywordCandidates(
+			keywordNames, CANDIDATES_PER_KEYWORD)) {
+			if (candidate.getMatchedKeyword() != null) {
+				candidatesByKeyword.computeIfAbsent(candidate.getMatchedKeyword(), k -> new ArrayList<>())
+					.add(candidate);
+			}
+		}
+
+		KeywordMatcher matcher = keywordDictionary.matcherFor(userKeywords);
+
+		Set<Long> needsContent = new HashSet<>();
+		Set<Long> titleMatched = new HashSet<>();
+		for (String keyword : userKeywords) {
+			int keywordIndex = matcher.indexOf(keyword);
+			for (KeywordCandidateView candidate : candidatesByKeyword.getOrDefault(InterestKeywords.normalize(keyword),
+				Collections.emptyList())) {
+				if (matcher.match(candidate.getTitle()).get(keywordIndex)) {
+					titleMatched.add(candidate.getId());
+				} else {
+					needsContent.add(candidate.getId());
+				}
+			}
+		}
+
+		Map<Long, String> contentById = new HashMap<>();
+		if (!needsContent.isEmpty()) {
+			for (NewsContentView view : careerNewsRepository.findContentByIdIn(needsContent)) {
+				contentById.put(view.getId(), view.getContent());
+			}
+		}
+
+		Map<String, List<RankedNews>> newsByKeyword = new LinkedHashMap<>();
+		Set<Long> usedNewsIds = new HashSet<>();
+
+		for (String keyword : userKeywords) {
+			int keywordIndex = matcher.indexOf(keyword);
+			List<RankingCandidate> keywordNews = new ArrayList<>();
+
+			for (KeywordCandidateView candidate : candidatesByKeyword.getOrDefault(InterestKeywords.normalize(keyword),
+				Collections.emptyList())) {
+				if (usedNewsIds.contains(candidate.getId())) {
+					continue;
+				}
+
+				boolean related = titleMatched.contains(candidate.getId())
+					|| matcher.match(toMatchText(candidate.getTitle(), contentById.get(candidate.getId())))
+					.get(keywordIndex);
+				if (related) {
+					keywordNews.add(RankingCandidate.of(candidate));
+					usedNewsIds.add(candidate.getId());
+				}
+			}
+
+			if (!keywordNews.isEmpty()) {
+				newsByKeyword.put(keyword,
+					newsRankingService.topK(newsRankingService.score(keyword, keywordNews), NEWS_PER_KEYWORD));
+			}
+		}
+
+		return newsByKeyword;
+	}
+
+	/**
+	 * 신규 기사가 분류 후보가 되는 키워드를 반환합니다. 후보 조건(기사에 연결된 키워드)은 classifyNewsByUserKeywords 와 같습니다.
+	 */
+	public String matchKeyword(CareerNews news, List<String> userKeywords) {
+		KeywordMatcher matcher = keywordDictionary.matcherFor(userKeywords);
+		Set<String> linked = InterestKeywords.articleKeywordNames(news.getUserInterests(), news.getKeywords());
+		BitSet matched = null;
+
+		for (String keyword : userKeywords) {
+			if (!linked.contains(InterestKeywords.normalize(keyword))) {
+				continue;
+			}
+			if (matched == null) {
+				matched = matcher.match(toMatchText(news.getTitle(), news.getOriginalContent()));
+			}
+			if (matched.get(matcher.indexOf(keyword))) {
+				return keyword;
+			}
+		}
+		return null;
+	}
+
+	private String toMatchText(String title, String content) {
+		return content != null ? title + " " + content : String.valueOf(title);
+	}
+}
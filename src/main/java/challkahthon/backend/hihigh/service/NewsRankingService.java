@@ -0,0 +1,134 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import challkahthon.backend.hihigh.analysis.TextAnalyzer;
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.projection.KeywordCandidateView;
+import challkahthon.backend.hihigh.utils.KeywordDictionary;
+
+/**
+ * (관심사 키워드, 기사) 쌍의 순위 점수를 계산합니다.
+ * 점수 = BM25(키워드와 변형어, 분석된 제목/본문) × 출처 가중치 × 최신성 감쇠(반감기)
+ * 감쇠가 지수 함수라 두 기사의 순서는 시간이 지나도 바뀌지 않으므로, 저장된 순위를 그대로 쓰고 점수만 조회 시점에 계산합니다.
+ */
+@Service
+public class NewsRankingService {
+
+	private final NewsSearchIndex newsSearchIndex;
+	private final KeywordDictionary keywordDictionary;
+	private final double halfLifeHours;
+	private final Map<String, Double> sourceWeights;
+
+	public NewsRankingService(NewsSearchIndex newsSearchIndex, KeywordDictionary keywordDictionary,
+		@Value("${ranking.recency.half-life-hours:72}") double halfLifeHours,
+		@Value("#{${ranking.source-weights:{:}}}") Map<String, Double> sourceWeights) {
+		this.newsSearchIndex = newsSearchIndex;
+		this.keywordDictionary = keywordDictionary;
+		this.halfLifeHours = halfLifeHours;
+		this.sourceWeights = sourceWeights;
+	}
+
+	/**
+	 * 키워드에 대한 후보들의 시간 무관 관련도를 계산합니다. 반환 순서는 입력 순서와 같습니다.
+	 */
+	public List<RankedNews> score(String keyword, Collection<RankingCandidate> candidates) {
+		Set<Long> newsIds = new HashSet<>();
+		for (RankingCandidate candidate : candidates) {
+			newsIds.add(candidate.newsId());
+		}
+		Map<Long, Double> bm25 = newsSearchIndex.score(queryTerms(keyword), newsIds);
+
+		List<RankedNews> ranked = new ArrayList<>(candidates.size());
+		for (RankingCandidate candidate : candidates) {
+			double relevance = bm25.getOrDefault(candidate.newsId(), 0.0) * sourceWeight(candidate.source());
+			ranked.add(new RankedNews(candidate.newsId(), relevance, candidate.publishedAt()));
+		}
+		return ranked;
+	}
+
+	/**
+	 * 현재 시각 기준 점수 상위 limit 개를 점수 내림차순으로 반환합니다.
+	 * 동점(색인 구축 전이라 모두 0점인 경우 포함)은 최신 기사가 앞섭니다.
+	 */
+	public List<RankedNews> topK(Collection<RankedNews> rankedNews, int limit) {
+		if (limit <= 0 || rankedNews.isEmpty()) {
+			return List.of();
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Comparator<RankedNews> order = Comparator.<RankedNews>comparingDouble(news -> finalScore(news, now))
+			.thenComparing(RankedNews::publishedAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+		// 전체 정렬 대신 크기 limit 의 최소 힙으로 상위 K 개만 유지한다
+		PriorityQueue<RankedNews> heap = new PriorityQueue<>(limit + 1, order);
+		for (RankedNews news : rankedNews) {
+			if (heap.size() < limit) {
+				heap.add(news);
+			} else if (order.compare(news, heap.peek()) > 0) {
+				heap.poll();
+				heap.add(news);
+			}
+		}
+
+		List<RankedNews> top = new ArrayList<>(heap);
+		top.sort(order.reversed());
+		return top;
+	}
+
+	public double finalScore(RankedNews news, LocalDateTime now) {
+		return news.relevance() * recencyDecay(news.publishedAt(), now);
+	}
+
+	private double recencyDecay(LocalDateTime publishedAt, LocalDateTime now) {
+		// 발행 시각을 모르면 반감기가 한 번 지난 것으로 본다
+		if (publishedAt == null) {
+			return 0.5;
+		}
+		double ageHours = Math.max(0, Duration.between(publishedAt, now).toMinutes() / 60.0);
+		return Math.pow(0.5, ageHours / halfLifeHours);
+	}
+
+	private double sourceWeight(String source) {
+		return source == null ? 1.0 : sourceWeights.getOrDefault(source, 1.0);
+	}
+
+	private Set<String> queryTerms(String keyword) {
+		Set<String> terms = new LinkedHashSet<>(TextAnalyzer.STANDARD.analyze(keyword));
+		for (String variation : keywordDictionary.variationsOf(keyword)) {
+			terms.addAll(TextAnalyzer.STANDARD.analyze(variation));
+		}
+		return terms;
+	}
+
+	public record RankingCandidate(Long newsId, String source, LocalDateTime publishedAt) {
+
+		public static RankingCandidate of(KeywordCandidateView view) {
+			return new RankingCandidate(view.getId(), view.getSource(), view.getPublishedAt());
+		}
+
+		public static RankingCandidate of(CareerNews news) {
+			return new RankingCandidate(news.getId(), news.getSource(),
+				news.getPublishedDate() != null ? news.getPublishedDate() : news.getCreatedAt());
+		}
+	}
+
+	/**
+	 * @param relevance 시간과 무관한 관련도 (BM25 × 출처 가중치)
+	 */
+	public record RankedNews(Long newsId, double relevance, LocalDateTime publishedAt) {
+	}
+}
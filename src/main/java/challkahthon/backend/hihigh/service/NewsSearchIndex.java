@@ -0,0 +1,287 @@
+package challkahthon.backend.hihigh.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import challkahthon.backend.hihigh.analysis.TextAnalyzer;
+import challkahthon.backend.hihigh.domain.projection.NewsIndexView;
+import challkahthon.backend.hihigh.event.ArticleDeletedEvent;
+import challkahthon.backend.hihigh.event.ArticlesIngestedEvent;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CareerNews 제목/본문에 대한 메모리 역색인 (term → 뉴스 ID posting list).
+ * 기동 시 DB 에서 한 번 구축하고, 기사 저장/삭제 이벤트로 증분 갱신합니다. 검색 결과는 BM25 점수 상위 K 개입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NewsSearchIndex {
+
+	private static final double K1 = 1.2;
+	private static final double B = 0.75;
+	private static final int TITLE_BOOST = 2;
+	private static final int BUILD_BATCH_SIZE = 500;
+
+	private final CareerNewsRepository careerNewsRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<String, PostingList> postings = new HashMap<>();
+	// 삭제/재색인 시 posting 을 정확히 지우기 위한 문서별 term 목록
+	private final Map<Long, String[]> docTerms = new HashMap<>();
+	private final Map<Long, Integer> docLengths = new HashMap<>();
+	private long totalLength = 0L;
+	private volatile boolean ready = false;
+
+	@Async
+	@EventListener(ApplicationReadyEvent.class)
+	public void buildOnStartup() {
+		rebuild();
+	}
+
+	public void rebuild() {
+		long start = System.currentTimeMillis();
+		ready = false;
+
+		lock.writeLock().lock();
+		try {
+			postings.clear();
+			docTerms.clear();
+			docLengths.clear();
+			totalLength = 0L;
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		long lastId = 0L;
+		int indexed = 0;
+		while (true) {
+			List<NewsIndexView> batch = careerNewsRepository.findIndexBatch(lastId,
+				PageRequest.of(0, BUILD_BATCH_SIZE));
+			if (batch.isEmpty()) {
+				break;
+			}
+			for (NewsIndexView view : batch) {
+				index(view.getId(), view.getTitle(), view.getContent());
+			}
+			indexed += batch.size();
+			lastId = batch.get(batch.size() - 1).getId();
+		}
+
+		ready = true;
+		log.info("뉴스 검색 색인 구축 완료: 문서 {}개, term {}개 ({}ms)", indexed, getTermCount(),
+			System.currentTimeMillis() - start);
+	}
+
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticlesIngested(ArticlesIngestedEvent event) {
+		if (event.newsIds().isEmpty()) {
+			return;
+		}
+		for (NewsIndexView view : careerNewsRepository.findIndexViewsByIdIn(event.newsIds())) {
+			index(view.getId(), view.getTitle(), view.getContent());
+		}
+	}
+
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onArticleDeleted(ArticleDeletedEvent event) {
+		remove(event.newsId());
+	}
+
+	public void index(Long newsId, String title, String content) {
+		Map<String, Integer> termFrequencies = new HashMap<>();
+		for (String token : TextAnalyzer.STANDARD.analyze(title)) {
+			termFrequencies.merge(token, TITLE_BOOST, Integer::sum);
+		}
+		for (String token : TextAnalyzer.STANDARD.analyze(content)) {
+			termFrequencies.merge(token, 1, Integer::sum);
+		}
+		int length = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+		lock.writeLock().lock();
+		try {
+			removeInternal(newsId);
+			for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+				postings.computeIfAbsent(entry.getKey(), k -> new PostingList()).add(newsId, entry.getValue(), length);
+			}
+			docTerms.put(newsId, termFrequencies.keySet().toArray(new String[0]));
+			docLengths.put(newsId, length);
+			totalLength += length;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(Long newsId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(newsId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void removeInternal(Long newsId) {
+		String[] terms = docTerms.remove(newsId);
+		if (terms == null) {
+			return;
+		}
+		for (String term : terms) {
+			PostingList postingList = postings.get(term);
+			if (postingList != null && postingList.remove(newsId) && postingList.size == 0) {
+				postings.remove(term);
+			}
+		}
+		Integer length = docLengths.remove(newsId);
+		totalLength -= length != null ? length : 0;
+	}
+
+	/**
+	 * BM25 점수 상위 limit 개의 뉴스를 점수 내림차순으로 반환합니다.
+	 */
+	public List<SearchHit> search(String query, int limit) {
+		List<String> terms = new ArrayList<>(new LinkedHashSet<>(TextAnalyzer.STANDARD.analyze(query)));
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+
+		Map<Long, Double> scores = new HashMap<>();
+		accumulateBm25(terms, null, scores);
+
+		// 전체 정렬 대신 크기 limit 의 최소 힙으로 상위 K 개만 유지한다. 초기 용량은 실제 후보 수를 넘지 않게 잡는다
+		PriorityQueue<SearchHit> heap = new PriorityQueue<>(Math.min(limit, scores.size()) + 1,
+			Comparator.comparingDouble(SearchHit::score));
+		for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+			if (heap.size() < limit) {
+				heap.add(new SearchHit(entry.getKey(), entry.getValue()));
+			} else if (entry.getValue() > heap.peek().score()) {
+				heap.poll();
+				heap.add(new SearchHit(entry.getKey(), entry.getValue()));
+			}
+		}
+
+		List<SearchHit> hits = new ArrayList<>(heap);
+		hits.sort(Comparator.comparingDouble(SearchHit::score).reversed());
+		return hits;
+	}
+
+	/**
+	 * 지정한 뉴스들에 대해서만 BM25 점수를 계산합니다. 검색어 term 이 하나도 없는 뉴스는 결과에 포함되지 않습니다.
+	 */
+	public Map<Long, Double> score(Collection<String> terms, Set<Long> newsIds) {
+		Map<Long, Double> scores = new HashMap<>();
+		if (!terms.isEmpty() && !newsIds.isEmpty()) {
+			accumulateBm25(terms, newsIds, scores);
+		}
+		return scores;
+	}
+
+	// filter 가 null 이면 모든 문서를 점수에 포함한다
+	private void accumulateBm25(Collection<String> terms, Set<Long> filter, Map<Long, Double> scores) {
+		lock.readLock().lock();
+		try {
+			int documentCount = docLengths.size();
+			if (documentCount == 0) {
+				return;
+			}
+			double averageLength = (double)totalLength / documentCount;
+
+			for (String term : terms) {
+				PostingList postingList = postings.get(term);
+				if (postingList == null) {
+					continue;
+				}
+				double idf = Math.log(1 + (documentCount - postingList.size + 0.5) / (postingList.size + 0.5));
+				for (int i = 0; i < postingList.size; i++) {
+					if (filter != null && !filter.contains(postingList.newsIds[i])) {
+						continue;
+					}
+					int tf = postingList.frequencies[i];
+					double norm = K1 * (1 - B + B * postingList.lengths[i] / averageLength);
+					scores.merge(postingList.newsIds[i], idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int getDocumentCount() {
+		lock.readLock().lock();
+		try {
+			return docLengths.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int getTermCount() {
+		lock.readLock().lock();
+		try {
+			return postings.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public record SearchHit(Long newsId, double score) {
+	}
+
+	private static class PostingList {
+		private long[] newsIds = new long[4];
+		private int[] frequencies = new int[4];
+		private int[] lengths = new int[4];
+		private int size = 0;
+
+		void add(long newsId, int frequency, int length) {
+			if (size == newsIds.length) {
+				int capacity = size * 2;
+				newsIds = Arrays.copyOf(newsIds, capacity);
+				frequencies = Arrays.copyOf(frequencies, capacity);
+				lengths = Arrays.copyOf(lengths, capacity);
+			}
+			newsIds[size] = newsId;
+			frequencies[size] = frequency;
+			lengths[size] = length;
+			size++;
+		}
+
+		// 순서는 점수 계산에 영향이 없으므로 마지막 원소로 덮어쓴다
+		boolean remove(long newsId) {
+			for (int i = 0; i < size; i++) {
+				if (newsIds[i] == newsId) {
+					size--;
+					newsIds[i] = newsIds[size];
+					frequencies[i] = frequencies[size];
+					lengths[i] = lengths[size];
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -1,22 +1,26 @@
 package challkahthon.backend.hihigh.service;
 
+import challkahthon.backend.hihigh.analysis.TextAnalyzer;
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
 import challkahthon.backend.hihigh.domain.entity.User;
-import challkahthon.backend.hihigh.repository.CareerNewsRepository;
 import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.service.JobLeaseService.JobLease;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -27,9 +31,20 @@ import java.util.concurrent.CompletableFuture;
 public class PersonalizedCrawlerService {
 
     private final UserRepository userRepository;
-    private final CareerNewsRepository careerNewsRepository;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final NewsIngestService newsIngestService;
+    private final JobLeaseService jobLeaseService;
+    private final CrawlJobService crawlJobService;
+    private final CrawlSourceScheduler crawlSourceScheduler;
+    private final ArticleContentExtractor articleContentExtractor;
+
+    private static final String DAILY_CRAWL_JOB = "personalized-daily-crawl";
+    private static final Duration DAILY_CRAWL_LEASE = Duration.ofMinutes(2);
+    private static final ZoneId DAILY_CRAWL_ZONE = ZoneId.of("Asia/Seoul");
+    private static final LocalTime DAILY_CRAWL_TIME = LocalTime.of(9, 0);
+    private static final int NEWS_API_PAGE_SIZE = 3;
+    private static final int G_NEWS_PAGE_SIZE = 3;
 
     @Value("${news.api.key}")
     private String newsApiKey;
@@ -37,66 +52,113 @@ public class PersonalizedCrawlerService {
     @Value("${gnews.api.key}")
     private String gNewsApiKey;
 
+    @Value("${news.api.base-url:https://newsapi.org}")
+    private String newsApiBaseUrl;
+
+    @Value("${gnews.api.base-url:https://gnews.io}")
+    private String gNewsBaseUrl;
+
+    @Value("${crawler.personalized.query-delay-ms:1000}")
+    private long queryDelayMillis;
+
+    /**
+     * 오늘 회차의 크롤링 작업을 등록합니다. 처리는 각 노드의 CrawlTaskWorker 가 태스크를 나눠 가져가며 진행합니다.
+     * 여러 노드에서 동시에 호출되어도 임대를 얻은 한 노드만 사용자 목록을 읽어 등록합니다.
+     */
     @Scheduled(cron = "0 0 9 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void crawlPersonalizedNewsForAllUsers() {
-        log.info("=== 일일 개인화 뉴스 크롤링 시작 ===");
-
-        List<User> activeUsers = userRepository.findAll().stream()
-                .filter(user -> user.getInterests() != null && !user.getInterests().trim().isEmpty())
-                .toList();
+        String runKey = CrawlJobService.dailyRunKey(LocalDate.now(DAILY_CRAWL_ZONE));
+        if (crawlJobService.exists(runKey)) {
+            return;
+        }
 
-        log.info("관심사가 설정된 사용자 {}명 발견", activeUsers.size());
+        Optional<JobLease> acquired = jobLeaseService.tryAcquire(DAILY_CRAWL_JOB, DAILY_CRAWL_LEASE);
+        if (acquired.isEmpty()) {
+            log.debug("다른 노드에서 일일 개인화 뉴스 크롤링을 등록 중입니다");
+            return;
+        }
 
-        for (User user : activeUsers) {
-            try {
-                crawlPersonalizedNewsForUser(user);
-                Thread.sleep(2000);
-            } catch (Exception e) {
-                log.error("사용자 {}의 맞춤 뉴스 크롤링 실패: {}", user.getLoginId(), e.getMessage());
+        try (JobLease lease = acquired.get()) {
+            if (!crawlJobService.exists(runKey)) {
+                log.info("=== 일일 개인화 뉴스 크롤링 등록 ===");
+                crawlJobService.createJob(runKey);
             }
         }
+    }
 
-        log.info("=== 일일 개인화 뉴스 크롤링 완료 ===");
+    // 09:00 에 등록하던 노드가 죽었거나 그 시각에 떠 있던 노드가 없었다면 다른 노드가 오늘 회차를 등록한다
+    @Scheduled(fixedDelayString = "${crawler.daily.takeover-check-ms:60000}", initialDelay = 60000)
+    public void enqueueDailyCrawlIfMissing() {
+        if (!LocalTime.now(DAILY_CRAWL_ZONE).isBefore(DAILY_CRAWL_TIME)) {
+            crawlPersonalizedNewsForAllUsers();
+        }
     }
 
+    // 저장은 NewsIngestService 가 트랜잭션으로 묶으므로 외부 API 를 호출하는 동안 트랜잭션을 열어 두지 않는다
     @Async
-    @Transactional
     public CompletableFuture<Void> crawlPersonalizedNewsForUser(User user) {
+        crawlAndSaveForUser(user);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * 사용자 관심사로 뉴스를 수집해 저장하고 저장한 기사 수를 반환합니다. 호출한 스레드에서 바로 실행됩니다.
+     */
+    public int crawlAndSaveForUser(User user) {
         log.info("사용자 {}의 맞춤 뉴스 크롤링 시작", user.getLoginId());
 
         if (user.getInterests() == null || user.getInterests().trim().isEmpty()) {
             log.warn("사용자 {}의 관심사가 설정되지 않음", user.getLoginId());
-            return CompletableFuture.completedFuture(null);
+            return 0;
         }
 
         List<String> searchQueries = generateSearchQueries(user.getInterests());
         List<CareerNews> collectedNews = new ArrayList<>();
 
+        // 같은 관심사를 가진 사용자가 많아도 검색어별 수집 주기가 되었을 때만 API 를 호출한다
         for (String query : searchQueries) {
             try {
-                collectedNews.addAll(crawlFromNewsAPI(query, user));
-                collectedNews.addAll(crawlFromGNewsAPI(query, user));
-                Thread.sleep(1000);
+                boolean fetched = false;
+                String newsApiSource = CrawlSourceScheduler.newsApiKey(query);
+                if (crawlSourceScheduler.isDue(newsApiSource)) {
+                    Optional<List<CareerNews>> news = crawlFromNewsAPI(query, user);
+                    if (news.isPresent()) {
+                        collectedNews.addAll(
+                            crawlSourceScheduler.recordFetch(newsApiSource, news.get(), NEWS_API_PAGE_SIZE));
+                    } else {
+                        crawlSourceScheduler.recordFailure(newsApiSource);
+                    }
+                    fetched = true;
+                }
+                String gNewsSource = CrawlSourceScheduler.gNewsKey(query);
+                if (crawlSourceScheduler.isDue(gNewsSource)) {
+                    Optional<List<CareerNews>> news = crawlFromGNewsAPI(query, user);
+                    if (news.isPresent()) {
+                        collectedNews.addAll(
+                            crawlSourceScheduler.recordFetch(gNewsSource, news.get(), G_NEWS_PAGE_SIZE));
+                    } else {
+                        crawlSourceScheduler.recordFailure(gNewsSource);
+                    }
+                    fetched = true;
+                }
+                if (fetched && queryDelayMillis > 0) {
+                    Thread.sleep(queryDelayMillis);
+                }
             } catch (Exception e) {
                 log.error("쿼리 '{}'로 뉴스 수집 실패: {}", query, e.getMessage());
             }
         }
 
-        List<CareerNews> uniqueNews = removeDuplicates(collectedNews);
+        // recordFetch 가 이미 저장된 기사를 걸러냈으므로 검색어 사이의 중복만 지운다
+        List<CareerNews> newNews = removeDuplicates(collectedNews);
 
-        for (CareerNews news : uniqueNews) {
-            try {
-                if (!careerNewsRepository.existsBySourceUrl(news.getSourceUrl())) {
-                    careerNewsRepository.save(news);
-                }
-            } catch (Exception e) {
-                log.error("뉴스 저장 실패: {}", e.getMessage());
-            }
-        }
+        // 이미 저장된 기사는 원문 페이지를 다시 받지 않도록 새 기사만 본문을 추출한다
+        articleContentExtractor.enrich(newNews);
 
-        log.info("사용자 {}의 맞춤 뉴스 {}개 수집 완료", user.getLoginId(), uniqueNews.size());
-        return CompletableFuture.completedFuture(null);
+        List<CareerNews> savedNews = newsIngestService.ingest(newNews);
+
+        log.info("사용자 {}의 맞춤 뉴스 {}개 수집 완료", user.getLoginId(), newNews.size());
+        return savedNews.size();
     }
 
     private List<String> generateSearchQueries(String interests) {
@@ -116,13 +178,14 @@ public class PersonalizedCrawlerService {
         return queries.subList(0, Math.min(3, queries.size()));
     }
 
-    private List<CareerNews> crawlFromNewsAPI(String query, User user) {
+    // 요청이 실패하면 빈 값을 반환해 새 기사가 없는 경우와 구분한다
+    private Optional<List<CareerNews>> crawlFromNewsAPI(String query, User user) {
         List<CareerNews> newsList = new ArrayList<>();
 
         try {
             String url = String.format(
-                "https://newsapi.org/v2/everything?q=%s&language=en&sortBy=publishedAt&pageSize=3&apiKey=%s",
-                query, newsApiKey
+                "%s/v2/everything?q=%s&language=en&sortBy=publishedAt&pageSize=%d&apiKey=%s",
+                newsApiBaseUrl, query, NEWS_API_PAGE_SIZE, newsApiKey
             );
 
             String response = restTemplate.getForObject(url, String.class);
@@ -151,18 +214,19 @@ public class PersonalizedCrawlerService {
             }
         } catch (Exception e) {
             log.error("News API 요청 실패: {}", e.getMessage());
+            return Optional.empty();
         }
 
-        return newsList;
+        return Optional.of(newsList);
     }
 
-    private List<CareerNews> crawlFromGNewsAPI(String query, User user) {
+    private Optional<List<CareerNews>> crawlFromGNewsAPI(String query, User user) {
         List<CareerNews> newsList = new ArrayList<>();
 
         try {
             String url = String.format(
-                "https://gnews.io/api/v4/search?q=%s&lang=en&max=3&token=%s",
-                query, gNewsApiKey
+                "%s/api/v4/search?q=%s&lang=en&max=%d&token=%s",
+                gNewsBaseUrl, query, G_NEWS_PAGE_SIZE, gNewsApiKey
             );
 
             String response = restTemplate.getForObject(url, String.class);
@@ -191,31 +255,39 @@ public class PersonalizedCrawlerService {
             }
         } catch (Exception e) {
             log.error("GNews API 요청 실패: {}", e.getMessage());
+            return Optional.empty();
         }
 
-        return newsList;
+        return Optional.of(newsList);
     }
 
     private List<CareerNews> removeDuplicates(List<CareerNews> newsList) {
         Map<String, CareerNews> uniqueNewsMap = new LinkedHashMap<>();
+        Set<String> seenTitles = new HashSet<>();
 
         for (CareerNews news : newsList) {
-            if (news.getSourceUrl() != null && !uniqueNewsMap.containsKey(news.getSourceUrl())) {
-                uniqueNewsMap.put(news.getSourceUrl(), news);
+            if (news.getSourceUrl() == null || uniqueNewsMap.containsKey(news.getSourceUrl())) {
+                continue;
+            }
+            String titleKey = TextAnalyzer.STANDARD.fingerprint(news.getTitle());
+            if (!titleKey.isEmpty() && !seenTitles.add(titleKey)) {
+                continue;
             }
+            uniqueNewsMap.put(news.getSourceUrl(), news);
         }
 
         return new ArrayList<>(uniqueNewsMap.values());
     }
 
+    // 같은 빈 안의 호출은 프록시를 거치지 않으므로 이 비동기 스레드에서 바로 수집한다
     @Async
-    @Transactional
     public CompletableFuture<Void> triggerPersonalizedCrawling(String username) {
         try {
             User user = userRepository.findByLoginId(username)
                     .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + username));
 
-            return crawlPersonalizedNewsForUser(user);
+            crawlAndSaveForUser(user);
+            return CompletableFuture.completedFuture(null);
         } catch (Exception e) {
             log.error("즉시 크롤링 실행 실패: {}", e.getMessage());
             return CompletableFuture.completedFuture(null);
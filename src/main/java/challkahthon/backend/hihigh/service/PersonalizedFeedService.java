@@ -0,0 +1,329 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.domain.entity.UserFeedEntry;
+import challkahthon.backend.hihigh.event.ArticleDeletedEvent;
+import challkahthon.backend.hihigh.event.ArticlesIngestedEvent;
+import challkahthon.backend.hihigh.event.DomainEventPublisher;
+import challkahthon.backend.hihigh.event.PersonalizedFeedChangedEvent;
+import challkahthon.backend.hihigh.event.UserInterestsChangedEvent;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.UserFeedEntryRepository;
+import challkahthon.backend.hihigh.repository.UserKeywordRepository;
+import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankedNews;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankingCandidate;
+import challkahthon.backend.hihigh.utils.InterestKeywords;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 메인 페이지 피드(키워드 → 점수순 뉴스)를 미리 계산해 저장합니다.
+ * 관심사가 바뀌면 전체를 다시 만들고, 새 기사가 들어오면 기존 목록과 합쳐 상위 뉴스만 남깁니다.
+ * 구독자가 많은 인기 키워드는 기사마다 모든 구독자 피드를 다시 쓰는 대신, 키워드별로 한 번 계산한 결과를 조회 시점에 합칩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PersonalizedFeedService {
+
+	private final UserFeedEntryRepository userFeedEntryRepository;
+	private final UserRepository userRepository;
+	private final NewsKeywordClassifier newsKeywordClassifier;
+	private final NewsRankingService newsRankingService;
+	private final UserKeywordRepository userKeywordRepository;
+	private final CareerNewsRepository careerNewsRepository;
+	private final DomainEventPublisher domainEventPublisher;
+
+	// 이 수보다 구독자가 많은 키워드는 쓰기 시점 팬아웃에서 제외하고 조회 시점에 합친다
+	@Value("${feed.hot-keyword-subscribers:1000}")
+	private long hotKeywordSubscribers;
+
+	// 정규화된 키워드 → 구독자 수
+	private final Cache<String, Long> subscriberCounts = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofMinutes(5))
+		.build();
+
+	// 인기 키워드 → 점수 상위 뉴스. 모든 구독자가 공유하며 해당 키워드에 새 기사가 들어오면 비운다.
+	// 계산 중인 값은 미완료 future 로 두어, 같은 키워드의 다른 구독자는 기다리고 캐시의 다른 키는 막지 않는다
+	private final AsyncCache<String, List<RankedNews>> hotKeywordNews = Caffeine.newBuilder()
+		.maximumSize(1_000)
+		.expireAfterWrite(Duration.ofMinutes(30))
+		.buildAsync();
+
+	/**
+	 * 저장된 피드를 반환합니다. 아직 한 번도 만들지 않은 사용자는 이 시점에 생성합니다.
+	 * 인기 키워드는 키워드별로 공유되는 최신 결과를 합쳐 반환합니다.
+	 */
+	@Transactional
+	public Map<String, List<RankedNews>> getFeed(User user) {
+		Map<String, List<RankedNews>> feed = user.getFeedRefreshedAt() == null
+			? rebuildFeed(user)
+			: toFeed(userFeedEntryRepository.findByUserIdOrderByKeywordOrderAscRankInKeywordAsc(user.getId()));
+
+		List<String> keywords = newsKeywordClassifier.parseUserInputKeywords(user.getInterests());
+		Map<String, Long> counts = subscriberCounts(keywords);
+		Map<String, List<RankedNews>> hotNews = new HashMap<>();
+		for (String keyword : keywords) {
+			if (isHot(counts, keyword)) {
+				hotNews.put(keyword, hotKeywordNews(keyword));
+			}
+		}
+		return hotNews.isEmpty() ? feed : mergeNewest(keywords, feed, hotNews);
+	}
+
+	@Transactional
+	public Map<String, List<RankedNews>> rebuildFeed(User user) {
+		List<String> keywords = newsKeywordClassifier.parseUserInputKeywords(user.getInterests());
+
+		Map<String, List<RankedNews>> feed = newsKeywordClassifier.classifyNewsByUserKeywords(keywords);
+
+		replaceFeed(user, keywords, feed);
+		log.debug("사용자 {}의 맞춤 피드 재구성: 키워드 {}개", user.getLoginId(), feed.size());
+		return feed;
+	}
+
+	/**
+	 * 관심사가 바뀐 사용자의 피드를 다시 만듭니다. 피드는 DB 에 저장되므로 이벤트를 발행한 노드에서만 만듭니다.
+	 */
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onInterestsChanged(UserInterestsChangedEvent event) {
+		if (!event.isLocal()) {
+			return;
+		}
+		userRepository.findById(event.userId()).ifPresent(user -> {
+			rebuildFeed(user);
+			domainEventPublisher.publish(PersonalizedFeedChangedEvent.forUser(user.getLoginId()));
+		});
+	}
+
+	@Transactional
+	public void onUserDeleted(Long userId) {
+		userFeedEntryRepository.deleteByUserId(userId);
+	}
+
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onArticleDeleted(ArticleDeletedEvent event) {
+		if (!event.isLocal()) {
+			return;
+		}
+		userFeedEntryRepository.deleteByNewsId(event.newsId());
+		domainEventPublisher.publish(PersonalizedFeedChangedEvent.allUsers());
+	}
+
+	/**
+	 * 새로 저장된 기사를 이미 피드가 만들어진 사용자들의 피드에 반영합니다.
+	 * 인기 키워드 공유 결과는 노드마다 메모리에 있으므로 모든 노드에서 비우고, 피드 팬아웃은 발행 노드에서만 합니다.
+	 */
+	@Async("domainEventExecutor")
+	@TransactionalEventListener(fallbackExecution = true)
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void onArticlesIngested(ArticlesIngestedEvent event) {
+		if (event.newsIds().isEmpty()) {
+			return;
+		}
+
+		List<CareerNews> newestFirst = careerNewsRepository.findAllById(event.newsIds()).stream()
+			.sorted(Comparator.comparing(CareerNews::getCreatedAt,
+				Comparator.nullsLast(Comparator.reverseOrder())))
+			.collect(Collectors.toList());
+
+		// 기사에 연결된 키워드를 관심사로 가진 사용자만 user_keyword 인덱스로 찾는다
+		Set<String> articleKeywords = new HashSet<>();
+		newestFirst.forEach(news -> articleKeywords.addAll(
+			InterestKeywords.articleKeywordNames(news.getUserInterests(), news.getKeywords())));
+
+		// 인기 키워드는 공유 결과만 비우고 팬아웃하지 않는다
+		Map<String, Long> counts = subscriberCounts(articleKeywords);
+		Set<String> fanOutKeywords = new HashSet<>();
+		for (String keyword : articleKeywords) {
+			if (isHot(counts, keyword)) {
+				hotKeywordNews.synchronous().invalidate(keyword);
+			} else {
+				fanOutKeywords.add(keyword);
+			}
+		}
+		if (!event.isLocal()) {
+			return;
+		}
+
+		if (!fanOutKeywords.isEmpty()) {
+			int updatedUsers = fanOut(newestFirst, fanOutKeywords);
+			log.info("신규 기사 {}개를 사용자 {}명의 맞춤 피드에 반영", newestFirst.size(), updatedUsers);
+		}
+		// 인기 키워드 결과는 조회 시점에 합쳐지므로 팬아웃 대상과 무관하게 모든 사용자 응답이 바뀔 수 있다
+		domainEventPublisher.publish(PersonalizedFeedChangedEvent.allUsers());
+	}
+
+	private int fanOut(List<CareerNews> newestFirst, Set<String> fanOutKeywords) {
+		List<RankingCandidate> candidates = newestFirst.stream()
+			.map(RankingCandidate::of)
+			.collect(Collectors.toList());
+
+		// 기사 점수는 키워드에만 의존하므로 키워드별로 한 번만 계산해 사용자 간에 공유한다
+		Map<String, Map<Long, RankedNews>> scoredByKeyword = new HashMap<>();
+
+		int updatedUsers = 0;
+		for (User user : userRepository.findByKeywords(fanOutKeywords)) {
+			if (user.getFeedRefreshedAt() == null) {
+				continue;
+			}
+
+			List<String> keywords = newsKeywordClassifier.parseUserInputKeywords(user.getInterests());
+			List<String> userFanOutKeywords = keywords.stream()
+				.filter(keyword -> fanOutKeywords.contains(InterestKeywords.normalize(keyword)))
+				.collect(Collectors.toList());
+			Map<String, List<RankedNews>> matched = new HashMap<>();
+			for (CareerNews news : newestFirst) {
+				String keyword = newsKeywordClassifier.matchKeyword(news, userFanOutKeywords);
+				if (keyword != null) {
+					RankedNews ranked = scoredByKeyword.computeIfAbsent(keyword, k -> scoreAll(k, candidates))
+						.get(news.getId());
+					matched.computeIfAbsent(keyword, k -> new ArrayList<>()).add(ranked);
+				}
+			}
+
+			if (!matched.isEmpty()) {
+				Map<String, List<RankedNews>> feed = toFeed(
+					userFeedEntryRepository.findByUserIdOrderByKeywordOrderAscRankInKeywordAsc(user.getId()));
+				replaceFeed(user, keywords, mergeNewest(keywords, feed, matched));
+				updatedUsers++;
+			}
+		}
+		return updatedUsers;
+	}
+
+	// 조회와 점수 계산은 캐시 잠금 밖에서 호출한 스레드가 한다. 도중에 무효화되면 계산 결과는 캐시에 남지 않는다
+	private List<RankedNews> hotKeywordNews(String keyword) {
+		CompletableFuture<List<RankedNews>> created = new CompletableFuture<>();
+		CompletableFuture<List<RankedNews>> existing = hotKeywordNews.asMap()
+			.putIfAbsent(InterestKeywords.normalize(keyword), created);
+		if (existing != null) {
+			return existing.join();
+		}
+
+		try {
+			created.complete(newsKeywordClassifier.classifyNewsByUserKeywords(List.of(keyword)).values().stream()
+				.findFirst()
+				.orElse(Collections.emptyList()));
+		} catch (RuntimeException e) {
+			// 실패한 future 는 캐시에서 빠지므로 다음 요청이 다시 계산한다
+			created.completeExceptionally(e);
+			throw e;
+		}
+		return created.join();
+	}
+
+	private Map<String, Long> subscriberCounts(Collection<String> keywords) {
+		Set<String> names = new HashSet<>();
+		keywords.forEach(keyword -> names.add(InterestKeywords.normalize(keyword)));
+		return subscriberCounts.getAll(names, missing -> {
+			Map<String, Long> loaded = new HashMap<>();
+			missing.forEach(name -> loaded.put(name, 0L));
+			userKeywordRepository.countSubscribersByKeywordNames(loaded.keySet())
+				.forEach(view -> loaded.put(view.getKeyword(), view.getSubscriberCount()));
+			return loaded;
+		});
+	}
+
+	private boolean isHot(Map<String, Long> counts, String keyword) {
+		return counts.getOrDefault(InterestKeywords.normalize(keyword), 0L) > hotKeywordSubscribers;
+	}
+
+	private Map<Long, RankedNews> scoreAll(String keyword, List<RankingCandidate> candidates) {
+		Map<Long, RankedNews> scored = new HashMap<>();
+		for (RankedNews ranked : newsRankingService.score(keyword, candidates)) {
+			scored.put(ranked.newsId(), ranked);
+		}
+		return scored;
+	}
+
+	private Map<String, List<RankedNews>> mergeNewest(List<String> keywords, Map<String, List<RankedNews>> feed,
+		Map<String, List<RankedNews>> matched) {
+		Set<Long> present = new HashSet<>();
+		feed.values().forEach(newsList -> newsList.forEach(news -> present.add(news.newsId())));
+
+		Map<String, List<RankedNews>> merged = new LinkedHashMap<>();
+		for (String keyword : keywords) {
+			List<RankedNews> pool = new ArrayList<>(feed.getOrDefault(keyword, Collections.emptyList()));
+			for (RankedNews news : matched.getOrDefault(keyword, Collections.emptyList())) {
+				if (present.add(news.newsId())) {
+					pool.add(news);
+				}
+			}
+
+			if (!pool.isEmpty()) {
+				merged.put(keyword, newsRankingService.topK(pool, NewsKeywordClassifier.NEWS_PER_KEYWORD));
+			}
+		}
+		return merged;
+	}
+
+	private void replaceFeed(User user, List<String> keywords, Map<String, List<RankedNews>> feed) {
+		userFeedEntryRepository.deleteByUserId(user.getId());
+
+		LocalDateTime now = LocalDateTime.now();
+		List<UserFeedEntry> entries = new ArrayList<>();
+		feed.forEach((keyword, newsList) -> {
+			for (int rank = 0; rank < newsList.size(); rank++) {
+				RankedNews news = newsList.get(rank);
+				entries.add(UserFeedEntry.builder()
+					.userId(user.getId())
+					.keyword(keyword)
+					.keywordOrder(keywords.indexOf(keyword))
+					.rankInKeyword(rank)
+					.newsId(news.newsId())
+					.relevanceScore(news.relevance())
+					.publishedAt(news.publishedAt())
+					.createdAt(now)
+					.build());
+			}
+		});
+		userFeedEntryRepository.saveAll(entries);
+
+		userRepository.updateFeedRefreshedAt(user.getId(), now);
+		user.setFeedRefreshedAt(now);
+	}
+
+	private Map<String, List<RankedNews>> toFeed(List<UserFeedEntry> entries) {
+		Map<String, List<RankedNews>> feed = new LinkedHashMap<>();
+		for (UserFeedEntry entry : entries) {
+			double relevance = entry.getRelevanceScore() != null ? entry.getRelevanceScore() : 0.0;
+			feed.computeIfAbsent(entry.getKeyword(), k -> new ArrayList<>())
+				.add(new RankedNews(entry.getNewsId(), relevance, entry.getPublishedAt()));
+		}
+		return feed;
+	}
+}
@@ -0,0 +1,61 @@
+package challkahthon.backend.hihigh.service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * 외부 사이트 요청 예절 제한.
+ * 전체 동시 요청 수를 제한하고, 같은 호스트에는 한 번에 하나씩 이전 요청 시작부터 최소 간격을 두고 보냅니다.
+ * 호스트별 상태는 한동안 쓰이지 않으면 버립니다.
+ */
+@Component
+public class PolitenessLimiter {
+
+	private final Semaphore globalPermits;
+	private final long perHostDelayMillis;
+	private final Cache<String, HostGate> hostGates = Caffeine.newBuilder()
+		.expireAfterAccess(Duration.ofMinutes(10))
+		.build();
+
+	public PolitenessLimiter(@Value("${crawler.politeness.max-concurrency:4}") int maxConcurrency,
+		@Value("${crawler.politeness.per-host-delay-ms:1000}") long perHostDelayMillis) {
+		this.globalPermits = new Semaphore(Math.max(1, maxConcurrency), true);
+		this.perHostDelayMillis = perHostDelayMillis;
+	}
+
+	/**
+	 * 제한을 지키며 작업을 실행합니다. 차례를 기다리는 동안 인터럽트되면 InterruptedException 을 던집니다.
+	 */
+	public <T> T run(String host, Callable<T> task) throws Exception {
+		HostGate gate = hostGates.get(host == null ? "" : host.toLowerCase(), key -> new HostGate());
+		gate.permit.acquire();
+		try {
+			long wait = gate.nextAllowedAt - System.currentTimeMillis();
+			if (wait > 0) {
+				Thread.sleep(wait);
+			}
+			globalPermits.acquire();
+			try {
+				// 간격은 요청 시작부터 잰다. 요청이 간격보다 오래 걸리면 끝나는 즉시 다음 요청이 나간다
+				gate.nextAllowedAt = System.currentTimeMillis() + perHostDelayMillis;
+				return task.call();
+			} finally {
+				globalPermits.release();
+			}
+		} finally {
+			gate.permit.release();
+		}
+	}
+
+	private static final class HostGate {
+		private final Semaphore permit = new Semaphore(1, true);
+		private volatile long nextAllowedAt;
+	}
+}
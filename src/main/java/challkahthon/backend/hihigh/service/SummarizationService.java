@@ -17,8 +17,11 @@ import java.util.stream.Collectors;
 public class SummarizationService {
 
     private final StanfordCoreNLP pipeline;
+    private final SummaryCache summaryCache;
     
-    public SummarizationService() {
+    public SummarizationService(SummaryCache summaryCache) {
+        this.summaryCache = summaryCache;
+
         // Initialize Stanford CoreNLP pipeline
         Properties props = new Properties();
         props.setProperty("annotators", "tokenize,ssplit,pos,lemma");
@@ -44,49 +47,52 @@ public class SummarizationService {
         }
         
         try {
-            // Process the document
-            CoreDocument document = new CoreDocument(text);
-            pipeline.annotate(document);
-            
-            // Get sentences
-            List<CoreSentence> sentences = document.sentences();
-            
-            // If the text is already short, return it as is
-            if (sentences.size() <= maxSentences) {
-                return text;
-            }
-            
-            // Score sentences based on position and length
-            List<ScoredSentence> scoredSentences = new ArrayList<>();
-            for (int i = 0; i < sentences.size(); i++) {
-                CoreSentence sentence = sentences.get(i);
-                double positionScore = 1.0 - ((double) i / sentences.size()); // Earlier sentences get higher scores
-                double lengthScore = Math.min(1.0, sentence.tokens().size() / 20.0); // Favor medium-length sentences
-                double score = 0.6 * positionScore + 0.4 * lengthScore;
-                
-                scoredSentences.add(new ScoredSentence(sentence.text(), score, i));
-            }
-            
-            // Sort by score and take top N sentences
-            List<ScoredSentence> topSentences = scoredSentences.stream()
-                    .sorted(Comparator.comparing(ScoredSentence::getScore).reversed())
-                    .limit(maxSentences)
-                    .collect(Collectors.toList());
-            
-            // Sort by original position to maintain flow
-            topSentences.sort(Comparator.comparing(ScoredSentence::getPosition));
-            
-            // Join sentences
-            return topSentences.stream()
-                    .map(ScoredSentence::getText)
-                    .collect(Collectors.joining(" "));
-            
+            return summaryCache.getOrCompute(text, maxSentences, () -> extractSummary(text, maxSentences));
         } catch (Exception e) {
             log.error("Error summarizing text: {}", e.getMessage());
             // Return a truncated version of the original text if summarization fails
             return text.length() > 500 ? text.substring(0, 500) + "..." : text;
         }
     }
+
+    private String extractSummary(String text, int maxSentences) {
+        // Process the document
+        CoreDocument document = new CoreDocument(text);
+        pipeline.annotate(document);
+        
+        // Get sentences
+        List<CoreSentence> sentences = document.sentences();
+        
+        // If the text is already short, return it as is
+        if (sentences.size() <= maxSentences) {
+            return text;
+        }
+        
+        // Score sentences based on position and length
+        List<ScoredSentence> scoredSentences = new ArrayList<>();
+        for (int i = 0; i < sentences.size(); i++) {
+            CoreSentence sentence = sentences.get(i);
+            double positionScore = 1.0 - ((double) i / sentences.size()); // Earlier sentences get higher scores
+            double lengthScore = Math.min(1.0, sentence.tokens().size() / 20.0); // Favor medium-length sentences
+            double score = 0.6 * positionScore + 0.4 * lengthScore;
+            
+            scoredSentences.add(new ScoredSentence(sentence.text(), score, i));
+        }
+        
+        // Sort by score and take top N sentences
+        List<ScoredSentence> topSentences = scoredSentences.stream()
+                .sorted(Comparator.comparing(ScoredSentence::getScore).reversed())
+                .limit(maxSentences)
+                .collect(Collectors.toList());
+        
+        // Sort by original position to maintain flow
+        topSentences.sort(Comparator.comparing(ScoredSentence::getPosition));
+        
+        // Join sentences
+        return topSentences.stream()
+                .map(ScoredSentence::getText)
+                .collect(Collectors.joining(" "));
+    }
     
     /**
      * Helper class to store sentence with its score and original position
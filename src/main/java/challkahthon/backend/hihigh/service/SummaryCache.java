@@ -0,0 +1,176 @@
+package challkahthon.backend.hihigh.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import challkahthon.backend.hihigh.domain.entity.SummaryCacheEntry;
+import challkahthon.backend.hihigh.repository.SummaryCacheEntryRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 정규화된 본문 해시 기준 요약 캐시.
+ * 힙 크기로 제한되는 W-TinyLFU 메모리 계층과 선택적인 DB 계층으로 구성됩니다.
+ */
+@Component
+@Slf4j
+public class SummaryCache {
+
+	// 문자열 헤더, 키, 엔트리 노드를 대략적으로 합산한 엔트리당 고정 비용
+	private static final int ENTRY_OVERHEAD_BYTES = 200;
+
+	private final SummaryCacheEntryRepository summaryCacheEntryRepository;
+	private final boolean persistent;
+	private final AsyncCache<String, String> memoryCache;
+
+	private final AtomicLong persistentHits = new AtomicLong();
+	private final AtomicLong persistentMisses = new AtomicLong();
+
+	public SummaryCache(SummaryCacheEntryRepository summaryCacheEntryRepository,
+		@Value("${summarization.cache.max-bytes:33554432}") long maxBytes,
+		@Value("${summarization.cache.persistent:false}") boolean persistent) {
+		this.summaryCacheEntryRepository = summaryCacheEntryRepository;
+		this.persistent = persistent;
+		this.memoryCache = Caffeine.newBuilder()
+			.maximumWeight(maxBytes)
+			.weigher((String key, String summary) -> ENTRY_OVERHEAD_BYTES + key.length() * 2 + summary.length() * 2)
+			.recordStats()
+			.buildAsync();
+	}
+
+	/**
+	 * 캐시된 요약을 반환하고, 없으면 summarizer 로 계산해 저장합니다.
+	 * 같은 키에 대한 동시 요청은 한 번만 계산됩니다. 계산은 캐시 잠금 밖에서 처음 요청한 스레드가 하고, 나머지는 결과를 기다립니다.
+	 * 짧아서 원문을 그대로 돌려준 결과는 공백만 다른 다른 원문에 잘못 돌려주지 않도록 캐시하지 않습니다.
+	 */
+	public String getOrCompute(String text, int maxSentences, Supplier<String> summarizer) {
+		String key = hashKey(text, maxSentences);
+		CompletableFuture<String> created = new CompletableFuture<>();
+		CompletableFuture<String> cached = memoryCache.get(key, (k, executor) -> created);
+		if (cached == created) {
+			try {
+				// null 로 완료된 항목은 캐시에서 빠진다
+				created.complete(loadOrCompute(key, text, summarizer));
+			} catch (RuntimeException e) {
+				created.completeExceptionally(e);
+				throw e;
+			}
+		}
+
+		String summary = cached.join();
+		return summary != null ? summary : text;
+	}
+
+	// 원문을 그대로 돌려준 경우 null 을 반환한다
+	private String loadOrCompute(String key, String text, Supplier<String> summarizer) {
+		if (persistent) {
+			Optional<SummaryCacheEntry> stored = findStored(key);
+			if (stored.isPresent()) {
+				persistentHits.incrementAndGet();
+				return stored.get().getSummary();
+			}
+			persistentMisses.incrementAndGet();
+		}
+
+		String summary = summarizer.get();
+		if (summary.equals(text)) {
+			return null;
+		}
+
+		if (persistent) {
+			try {
+				summaryCacheEntryRepository.save(SummaryCacheEntry.builder()
+					.contentHash(key)
+					.summary(summary)
+					.createdAt(LocalDateTime.now())
+					.build());
+			} catch (Exception e) {
+				// 다른 노드가 먼저 저장한 경우 등은 메모리 계층만으로 충분하다
+				log.warn("요약 캐시 저장 실패: {}", e.getMessage());
+			}
+		}
+		return summary;
+	}
+
+	private Optional<SummaryCacheEntry> findStored(String key) {
+		try {
+			return summaryCacheEntryRepository.findById(key);
+		} catch (Exception e) {
+			log.warn("요약 캐시 조회 실패: {}", e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	public void invalidateAll() {
+		memoryCache.synchronous().invalidateAll();
+	}
+
+	public SummaryCacheStats getStats() {
+		Cache<String, String> cache = memoryCache.synchronous();
+		CacheStats stats = cache.stats();
+		long weightedSize = cache.policy().eviction()
+			.map(eviction -> eviction.weightedSize().orElse(0L))
+			.orElse(0L);
+
+		return SummaryCacheStats.builder()
+			.hitCount(stats.hitCount())
+			.missCount(stats.missCount())
+			.hitRate(stats.hitRate())
+			.evictionCount(stats.evictionCount())
+			.entryCount(cache.estimatedSize())
+			.estimatedBytes(weightedSize)
+			.persistent(persistent)
+			.persistentHitCount(persistentHits.get())
+			.persistentMissCount(persistentMisses.get())
+			.build();
+	}
+
+	static String hashKey(String text, int maxSentences) {
+		String normalized = normalize(text);
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			digest.update(normalized.getBytes(StandardCharsets.UTF_8));
+			digest.update((byte)0);
+			digest.update(Integer.toString(maxSentences).getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+
+	// 신디케이션 기사는 공백과 유니코드 조합형만 다른 경우가 많다
+	private static String normalize(String text) {
+		return Normalizer.normalize(text, Normalizer.Form.NFC)
+			.replaceAll("\\s+", " ")
+			.trim();
+	}
+
+	@lombok.Builder
+	@lombok.Data
+	public static class SummaryCacheStats {
+		private long hitCount;
+		private long missCount;
+		private double hitRate;
+		private long evictionCount;
+		private long entryCount;
+		private long estimatedBytes;
+		private boolean persistent;
+		private long persistentHitCount;
+		private long persistentMissCount;
+	}
+}
@@ -0,0 +1,421 @@
+package challkahthon.backend.hihigh.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.utils.ThumbnailUrls;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기사 썸네일 프록시.
+ * 원본 이미지를 한 번 받아 고정 폭 JPEG 변형들을 만들어 로컬 디스크에 저장하고, 전체 크기가 한도를 넘으면
+ * 가장 오래 쓰이지 않은 파일부터 지웁니다. 파일 이름은 원본 URL 해시와 폭으로 정해져 같은 이미지를 쓰는 기사끼리 공유됩니다.
+ */
+@Service
+@Slf4j
+public class ThumbnailService {
+
+	private static final int[] WIDTHS = {160, 320, 640};
+	private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+	private static final float JPEG_QUALITY = 0.8f;
+	private static final String EXTENSION = ".jpg";
+	private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36";
+	// 목록에서 뺀 파일을 실제로 지우기까지 기다리는 시간. 이미 경로를 받아 응답 중인 요청이 끝날 만큼 잡는다
+	private static final long DELETE_GRACE_MILLIS = Duration.ofMinutes(1).toMillis();
+	private static final int MAX_REDIRECTS = 3;
+
+	private final CareerNewsRepository careerNewsRepository;
+	private final Path cacheDir;
+	private final long maxCacheBytes;
+	private final int maxSourceBytes;
+	private final Duration fetchTimeout;
+	// 공개 엔드포인트에서 임의 URL 을 받으므로 기본적으로 내부망 주소로는 요청하지 않는다. 로컬 개발과 테스트용 설정
+	private final boolean allowPrivateHosts;
+	private final Semaphore renderPermits;
+	private final HttpClient httpClient;
+
+	// 파일 이름 → 크기. 접근 순서로 유지해 가장 앞이 가장 오래 쓰이지 않은 파일이다
+	private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(256, 0.75f, true);
+	private long totalBytes;
+	// 한도를 넘어 목록에서 뺀 파일 → 뺀 시각. sendfile 은 응답을 쓸 때 경로로 파일을 다시 열기 때문에 바로 지우지 않는다
+	private final LinkedHashMap<String, Long> retired = new LinkedHashMap<>();
+
+	// 같은 이미지에 대한 동시 요청은 한 번만 받아 변환한다
+	private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+	// 받거나 디코딩하지 못한 원본은 한동안 다시 시도하지 않는다
+	private final Cache<String, Boolean> failedSources = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.expireAfterWrite(Duration.ofHours(1))
+		.build();
+
+	public ThumbnailService(CareerNewsRepository careerNewsRepository,
+		@Value("${thumbnail.cache-dir:${java.io.tmpdir}/hihigh-thumbnails}") String cacheDir,
+		@Value("${thumbnail.cache.max-bytes:268435456}") long maxCacheBytes,
+		@Value("${thumbnail.fetch.max-bytes:10485760}") int maxSourceBytes,
+		@Value("${thumbnail.fetch.timeout-ms:5000}") long fetchTimeoutMillis,
+		@Value("${thumbnail.max-concurrent-renders:2}") int maxConcurrentRenders,
+		@Value("${thumbnail.fetch.allow-private-hosts:false}") boolean allowPrivateHosts) {
+		this.careerNewsRepository = careerNewsRepository;
+		this.cacheDir = Paths.get(cacheDir);
+		this.maxCacheBytes = maxCacheBytes;
+		this.maxSourceBytes = maxSourceBytes;
+		this.fetchTimeout = Duration.ofMillis(fetchTimeoutMillis);
+		this.allowPrivateHosts = allowPrivateHosts;
+		this.renderPermits = new Semaphore(Math.max(1, maxConcurrentRenders));
+		this.httpClient = HttpClient.newBuilder()
+			.connectTimeout(fetchTimeout)
+			.followRedirects(HttpClient.Redirect.NEVER)
+			.build();
+	}
+
+	// 재시작 후에도 디스크에 남은 파일을 수정 시각 순으로 다시 등록해 캐시와 한도를 이어간다
+	@PostConstruct
+	public void loadExistingFiles() throws IOException {
+		Files.createDirectories(cacheDir);
+		List<Path> existing = new ArrayList<>();
+		try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir, "*" + EXTENSION)) {
+			stream.forEach(existing::add);
+		}
+		existing.sort(Comparator.comparingLong(path -> path.toFile().lastModified()));
+		synchronized (files) {
+			for (Path path : existing) {
+				long size = path.toFile().length();
+				files.put(path.getFileName().toString(), size);
+				totalBytes += size;
+			}
+			evictOverLimit();
+		}
+		log.info("썸네일 캐시 {}개 파일 ({} bytes) 로드: {}", existing.size(), totalBytes, cacheDir);
+	}
+
+	/**
+	 * 기사 썸네일을 요청 폭에 가장 가까운 고정 폭(요청 폭 이상 중 가장 작은 값)으로 반환합니다.
+	 * 변환에 실패하면 file 이 null 이고, 호출 측은 원본 URL 로 보낼 수 있습니다.
+	 */
+	public Thumbnail getThumbnail(Long newsId, int requestedWidth) {
+		String originalUrl = careerNewsRepository.findThumbnailUrlById(newsId)
+			.filter(ThumbnailUrls::isFetchable)
+			.orElseThrow(() -> new RuntimeException("썸네일을 찾을 수 없습니다: " + newsId));
+
+		String sourceHash = ThumbnailUrls.hash(originalUrl);
+		int width = normalizeWidth(requestedWidth);
+		String fileName = fileName(sourceHash, width);
+
+		Thumbnail thumbnail = lookup(originalUrl, fileName);
+		if (thumbnail == null && failedSources.getIfPresent(sourceHash) == null && render(originalUrl, sourceHash)) {
+			thumbnail = lookup(originalUrl, fileName);
+		}
+		return thumbnail != null ? thumbnail : new Thumbnail(originalUrl, null, 0, etag(fileName));
+	}
+
+	// 경로와 크기를 같은 잠금 안에서 읽는다. 그 뒤 목록에서 빠져도 파일은 유예 시간 동안 남는다
+	private Thumbnail lookup(String originalUrl, String fileName) {
+		Long size;
+		synchronized (files) {
+			size = files.get(fileName);
+		}
+		if (size == null) {
+			return null;
+		}
+		Path path = cacheDir.resolve(fileName);
+		return Files.exists(path) ? new Thumbnail(originalUrl, path, size, etag(fileName)) : null;
+	}
+
+	private boolean render(String originalUrl, String sourceHash) {
+		CompletableFuture<Boolean> created = new CompletableFuture<>();
+		CompletableFuture<Boolean> existing = inFlight.putIfAbsent(sourceHash, created);
+		if (existing != null) {
+			return existing.join();
+		}
+
+		boolean rendered = false;
+		try {
+			renderPermits.acquire();
+			try {
+				rendered = renderVariants(originalUrl, sourceHash);
+			} finally {
+				renderPermits.release();
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			if (!rendered) {
+				failedSources.put(sourceHash, Boolean.TRUE);
+			}
+			inFlight.remove(sourceHash);
+			created.complete(rendered);
+		}
+		return rendered;
+	}
+
+	// 원본은 한 번만 받아 모든 폭의 변형을 함께 만든다
+	private boolean renderVariants(String originalUrl, String sourceHash) {
+		try {
+			BufferedImage source = decode(fetch(originalUrl));
+			for (int width : WIDTHS) {
+				store(fileName(sourceHash, width), encodeJpeg(resize(source, width)));
+			}
+			return true;
+		} catch (Exception e) {
+			log.debug("썸네일 생성 실패 ({}): {}", originalUrl, e.getMessage());
+			return false;
+		}
+	}
+
+	// 리다이렉트는 직접 따라가며 매 단계의 호스트를 검사한다
+	private byte[] fetch(String originalUrl) throws IOException, InterruptedException {
+		URI uri = URI.create(originalUrl);
+		HttpResponse<InputStream> response = null;
+		for (int redirects = 0; ; redirects++) {
+			checkPublicHost(uri);
+			HttpRequest request = HttpRequest.newBuilder(uri)
+				.timeout(fetchTimeout)
+				.header("User-Agent", USER_AGENT)
+				.header("Accept", "image/jpeg,image/png,image/gif,image/*;q=0.8")
+				.GET()
+				.build();
+			response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+			int status = response.statusCode();
+			String location = response.headers().firstValue("Location").orElse(null);
+			if (status < 300 || status >= 400 || location == null) {
+				break;
+			}
+			response.body().close();
+			if (redirects >= MAX_REDIRECTS) {
+				throw new IOException("리다이렉트가 너무 많습니다");
+			}
+			uri = uri.resolve(location);
+		}
+
+		try (InputStream body = response.body()) {
+			if (response.statusCode() != 200) {
+				throw new IOException("HTTP " + response.statusCode());
+			}
+			long declared = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+			if (declared > maxSourceBytes) {
+				throw new IOException("원본 이미지가 너무 큽니다: " + declared + " bytes");
+			}
+			byte[] bytes = body.readNBytes(maxSourceBytes + 1);
+			if (bytes.length > maxSourceBytes) {
+				throw new IOException("원본 이미지가 " + maxSourceBytes + " bytes 를 넘습니다");
+			}
+			return bytes;
+		}
+	}
+
+	// 루프백, 링크 로컬(클라우드 메타데이터 포함), 사설망 주소로 해석되는 호스트는 거부한다.
+	// 검사 후 연결 시점에 DNS 가 다시 해석되므로 DNS 리바인딩까지 막지는 못한다
+	private void checkPublicHost(URI uri) throws IOException {
+		String scheme = uri.getScheme();
+		if ((!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) || uri.getHost() == null) {
+			throw new IOException("지원하지 않는 URL: " + uri);
+		}
+		if (allowPrivateHosts) {
+			return;
+		}
+		for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+			if (!isPublicAddress(address)) {
+				throw new IOException("내부망 주소로는 요청하지 않습니다: " + uri.getHost());
+			}
+		}
+	}
+
+	static boolean isPublicAddress(InetAddress address) {
+		if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+			|| address.isSiteLocalAddress() || address.isMulticastAddress()) {
+			return false;
+		}
+		byte[] bytes = address.getAddress();
+		if (address instanceof Inet6Address) {
+			// fc00::/7 고유 로컬 주소
+			return (bytes[0] & 0xfe) != 0xfc;
+		}
+		// 100.64.0.0/10 통신사 NAT 대역
+		return !((bytes[0] & 0xff) == 100 && (bytes[1] & 0xc0) == 64);
+	}
+
+	// 전체를 디코딩하기 전에 헤더의 크기로 지나치게 큰 이미지를 거른다
+	private BufferedImage decode(byte[] bytes) throws IOException {
+		try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(bytes))) {
+			Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+			if (!readers.hasNext()) {
+				throw new IOException("지원하지 않는 이미지 형식");
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_SOURCE_PIXELS) {
+					throw new IOException("이미지 해상도가 너무 큽니다");
+				}
+				return reader.read(0);
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	// 원본보다 키우지 않고, 절반씩 줄여 가며 마지막에 목표 크기로 맞춰 한 번에 줄일 때 생기는 계단 현상을 줄인다.
+	// 투명 영역은 흰 배경으로 채운다
+	static BufferedImage resize(BufferedImage source, int targetWidth) {
+		int width = Math.min(targetWidth, source.getWidth());
+		int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+		BufferedImage current = source;
+		while (current.getWidth() / 2 >= width) {
+			current = draw(current, current.getWidth() / 2, Math.max(1, current.getHeight() / 2));
+		}
+		return draw(current, width, height);
+	}
+
+	private static BufferedImage draw(BufferedImage source, int width, int height) {
+		BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = target.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+			graphics.setColor(Color.WHITE);
+			graphics.fillRect(0, 0, width, height);
+			graphics.drawImage(source, 0, 0, width, height, null);
+		} finally {
+			graphics.dispose();
+		}
+		return target;
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		try (ImageOutputStream output = ImageIO.createImageOutputStream(buffer)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(JPEG_QUALITY);
+			param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return buffer.toByteArray();
+	}
+
+	// 임시 파일에 쓴 뒤 옮겨서, 제공 중인 파일이 쓰다 만 상태로 보이지 않게 한다
+	private void store(String fileName, byte[] bytes) throws IOException {
+		Path temp = Files.createTempFile(cacheDir, "tmp-", ".part");
+		try {
+			Files.write(temp, bytes);
+			Files.move(temp, cacheDir.resolve(fileName), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+
+		synchronized (files) {
+			retired.remove(fileName);
+			Long previous = files.put(fileName, (long) bytes.length);
+			totalBytes += bytes.length - (previous == null ? 0 : previous);
+			evictOverLimit();
+		}
+	}
+
+	// files 잠금을 잡은 상태에서 호출한다. 새로 찾는 요청은 바로 막고, 파일은 유예 시간이 지난 뒤 지운다
+	private void evictOverLimit() {
+		long now = System.currentTimeMillis();
+		Iterator<Map.Entry<String, Long>> eldest = files.entrySet().iterator();
+		while (totalBytes > maxCacheBytes && eldest.hasNext()) {
+			Map.Entry<String, Long> entry = eldest.next();
+			totalBytes -= entry.getValue();
+			eldest.remove();
+			retired.remove(entry.getKey());
+			retired.put(entry.getKey(), now);
+		}
+		deleteRetired(now);
+	}
+
+	// 유예 중에 다시 만들어져 목록에 돌아온 파일은 지우지 않는다
+	private void deleteRetired(long now) {
+		Iterator<Map.Entry<String, Long>> oldest = retired.entrySet().iterator();
+		while (oldest.hasNext()) {
+			Map.Entry<String, Long> entry = oldest.next();
+			if (now - entry.getValue() < DELETE_GRACE_MILLIS) {
+				break;
+			}
+			oldest.remove();
+			if (files.containsKey(entry.getKey())) {
+				continue;
+			}
+			try {
+				Files.deleteIfExists(cacheDir.resolve(entry.getKey()));
+			} catch (IOException e) {
+				log.warn("썸네일 캐시 파일 삭제 실패: {}", entry.getKey());
+			}
+		}
+	}
+
+	static int normalizeWidth(int requestedWidth) {
+		for (int width : WIDTHS) {
+			if (requestedWidth <= width) {
+				return width;
+			}
+		}
+		return WIDTHS[WIDTHS.length - 1];
+	}
+
+	static String fileName(String sourceHash, int width) {
+		return sourceHash + "-" + width + EXTENSION;
+	}
+
+	private static String etag(String fileName) {
+		return "\"" + fileName + "\"";
+	}
+
+	public record Thumbnail(String originalUrl, Path file, long size, String etag) {
+
+		public boolean isAvailable() {
+			return file != null;
+		}
+	}
+}
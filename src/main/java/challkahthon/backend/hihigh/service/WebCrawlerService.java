@@ -1,11 +1,16 @@
 package challkahthon.backend.hihigh.service;
 
+import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -13,14 +18,17 @@ import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import challkahthon.backend.hihigh.analysis.TextAnalyzer;
 import challkahthon.backend.hihigh.domain.entity.CareerNews;
-import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.service.JobLeaseService.JobLease;
+import challkahthon.backend.hihigh.utils.KeywordMatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,7 +37,10 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class WebCrawlerService {
 
-	private final CareerNewsRepository careerNewsRepository;
+	private final NewsIngestService newsIngestService;
+	private final CrawlSourceScheduler crawlSourceScheduler;
+	private final JobLeaseService jobLeaseService;
+	private final ArticleContentExtractor articleContentExtractor;
 	private final RestTemplate restTemplate = new RestTemplate();
 	private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -39,8 +50,36 @@ public class WebCrawlerService {
 	@Value("${gnews.api.key:YOUR_GNEWS_API_KEY}")
 	private String gNewsApiKey;
 
+	@Value("${news.api.base-url:https://newsapi.org}")
+	private String newsApiBaseUrl;
+
+	@Value("${gnews.api.base-url:https://gnews.io}")
+	private String gNewsBaseUrl;
+
+	// 설정하면 RSS 피드를 {base-url}/{원래 호스트}{원래 경로} 로 요청한다 (로컬 스텁 서버 등)
+	@Value("${crawler.rss.base-url:}")
+	private String rssBaseUrl;
+
+	@Value("${crawler.sources.enabled:true}")
+	private boolean sourceCrawlEnabled;
+
+	private static final String NEWS_API_QUERY = "software developer OR programming OR javascript OR react";
+	private static final int NEWS_API_PAGE_SIZE = 5;
+	private static final String G_NEWS_QUERY = "software developer programming";
+	private static final int G_NEWS_PAGE_SIZE = 3;
+	private static final int RSS_ITEMS_PER_FEED = 2;
+	private static final String SOURCE_CRAWL_JOB = "source-crawl";
+	private static final Duration SOURCE_CRAWL_LEASE = Duration.ofMinutes(2);
+
 	private static final Map<String, String> RSS_SOURCES = new HashMap<>();
 
+	private static final KeywordMatcher CAREER_KEYWORDS = KeywordMatcher.of(List.of(
+		"career", "job", "employment", "hiring", "developer", "programmer",
+		"coding", "programming", "frontend", "backend", "design", "engineer",
+		"javascript", "python", "java", "react", "vue", "angular", "css",
+		"html", "database", "api", "cloud", "devops", "ui", "ux"
+	));
+
 	static {
 		RSS_SOURCES.put("Dev.to", "https://dev.to/feed");
 		RSS_SOURCES.put("Medium Tech", "https://medium.com/feed/topic/technology");
@@ -54,13 +93,23 @@ public class WebCrawlerService {
 	}
 
 	public List<CareerNews> crawlFromNewsAPI() {
+		return fetchFromNewsAPI().orElseGet(ArrayList::new);
+	}
+
+	public List<CareerNews> crawlFromGNewsAPI() {
+		return fetchFromGNewsAPI().orElseGet(ArrayList::new);
+	}
+
+	/**
+	 * 요청 자체가 실패하면(인증 오류, 429, 5xx 등) 빈 값을 반환해 "새 기사 없음"과 구분합니다.
+	 */
+	private Optional<List<CareerNews>> fetchFromNewsAPI() {
 		List<CareerNews> newsList = new ArrayList<>();
 
 		try {
-			String query = "software developer OR programming OR javascript OR react";
 			String url = String.format(
-				"https://newsapi.org/v2/everything?q=%s&language=en&sortBy=publishedAt&pageSize=5&apiKey=%s",
-				query, newsApiKey
+				"%s/v2/everything?q=%s&language=en&sortBy=publishedAt&pageSize=%d&apiKey=%s",
+				newsApiBaseUrl, NEWS_API_QUERY, NEWS_API_PAGE_SIZE, newsApiKey
 			);
 
 			ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
@@ -68,34 +117,32 @@ public class WebCrawlerService {
 			JsonNode articles = root.get("articles");
 
 			if (articles != null && articles.isArray()) {
-				int count = 0;
 				for (JsonNode article : articles) {
-					if (count >= 3)
+					if (newsList.size() >= NEWS_API_PAGE_SIZE)
 						break;
 
 					CareerNews news = parseNewsAPIArticle(article);
 					if (news != null) {
 						newsList.add(news);
-						count++;
 					}
 				}
 			}
 
 		} catch (Exception e) {
 			log.error("Error crawling from NewsAPI: {}", e.getMessage());
+			return Optional.empty();
 		}
 
-		return newsList;
+		return Optional.of(newsList);
 	}
 
-	public List<CareerNews> crawlFromGNewsAPI() {
+	private Optional<List<CareerNews>> fetchFromGNewsAPI() {
 		List<CareerNews> newsList = new ArrayList<>();
 
 		try {
-			String query = "software developer programming";
 			String url = String.format(
-				"https://gnews.io/api/v4/search?q=%s&lang=en&country=us&max=3&apikey=%s",
-				query, gNewsApiKey
+				"%s/api/v4/search?q=%s&lang=en&country=us&max=%d&apikey=%s",
+				gNewsBaseUrl, G_NEWS_QUERY, G_NEWS_PAGE_SIZE, gNewsApiKey
 			);
 
 			ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
@@ -113,17 +160,27 @@ public class WebCrawlerService {
 
 		} catch (Exception e) {
 			log.error("Error crawling from GNews API: {}", e.getMessage());
+			return Optional.empty();
 		}
 
-		return newsList;
+		return Optional.of(newsList);
 	}
 
 	public List<CareerNews> crawlFromRSSFeeds() {
+		return crawlFromRSSFeeds(true);
+	}
+
+	private List<CareerNews> crawlFromRSSFeeds(boolean force) {
 		List<CareerNews> newsList = new ArrayList<>();
 
 		for (Map.Entry<String, String> source : RSS_SOURCES.entrySet()) {
+			String sourceKey = CrawlSourceScheduler.rssKey(source.getKey());
+			if (!force && !crawlSourceScheduler.isDue(sourceKey)) {
+				continue;
+			}
 			try {
-				Document doc = Jsoup.connect(source.getValue())
+				List<CareerNews> parsed = new ArrayList<>();
+				Document doc = Jsoup.connect(rssFeedUrl(source.getValue()))
 					.userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
 					.timeout(10000)
 					.get();
@@ -133,20 +190,21 @@ public class WebCrawlerService {
 					items = doc.select("entry");
 				}
 
-				int count = 0;
 				for (Element item : items) {
-					if (count >= 2)
-						break;
-
 					CareerNews news = parseRSSItem(item, source.getKey());
-					if (news != null && isCareerRelated(news.getTitle())) {
-						newsList.add(news);
-						count++;
+					if (news != null) {
+						parsed.add(news);
 					}
 				}
 
+				// 수집 주기는 피드 전체로 판단하고, 저장은 새 기사 중 진로 관련 기사 몇 개만 한다
+				newsList.addAll(crawlSourceScheduler.recordFetch(sourceKey, parsed, items.size()).stream()
+					.filter(news -> isCareerRelated(news.getTitle()))
+					.limit(RSS_ITEMS_PER_FEED)
+					.toList());
 			} catch (Exception e) {
 				log.error("Error crawling RSS from {}: {}", source.getKey(), e.getMessage());
+				crawlSourceScheduler.recordFailure(sourceKey);
 			}
 		}
 
@@ -154,21 +212,48 @@ public class WebCrawlerService {
 	}
 
 	public List<CareerNews> crawlAllSources() {
+		return crawlSources(true);
+	}
+
+	/**
+	 * @param force true 면 수집 주기와 무관하게 모든 출처를 읽습니다. 어느 쪽이든 결과는 주기 계산에 반영됩니다.
+	 */
+	private List<CareerNews> crawlSources(boolean force) {
 		List<CareerNews> allNews = new ArrayList<>();
 
-		if (!"YOUR_NEWS_API_KEY".equals(newsApiKey)) {
-			allNews.addAll(crawlFromNewsAPI());
+		String newsApiSource = CrawlSourceScheduler.newsApiKey(NEWS_API_QUERY);
+		if (!"YOUR_NEWS_API_KEY".equals(newsApiKey) && (force || crawlSourceScheduler.isDue(newsApiSource))) {
+			Optional<List<CareerNews>> fetched = fetchFromNewsAPI();
+			if (fetched.isPresent()) {
+				allNews.addAll(crawlSourceScheduler.recordFetch(newsApiSource, fetched.get(), NEWS_API_PAGE_SIZE));
+			} else {
+				crawlSourceScheduler.recordFailure(newsApiSource);
+			}
 		}
 
-		if (!"YOUR_GNEWS_API_KEY".equals(gNewsApiKey)) {
-			allNews.addAll(crawlFromGNewsAPI());
+		String gNewsSource = CrawlSourceScheduler.gNewsKey(G_NEWS_QUERY);
+		if (!"YOUR_GNEWS_API_KEY".equals(gNewsApiKey) && (force || crawlSourceScheduler.isDue(gNewsSource))) {
+			Optional<List<CareerNews>> fetched = fetchFromGNewsAPI();
+			if (fetched.isPresent()) {
+				allNews.addAll(crawlSourceScheduler.recordFetch(gNewsSource, fetched.get(), G_NEWS_PAGE_SIZE));
+			} else {
+				crawlSourceScheduler.recordFailure(gNewsSource);
+			}
 		}
 
-		allNews.addAll(crawlFromRSSFeeds());
+		allNews.addAll(crawlFromRSSFeeds(force));
 
 		return removeDuplicates(allNews);
 	}
 
+	private String rssFeedUrl(String feedUrl) {
+		if (rssBaseUrl == null || rssBaseUrl.isBlank()) {
+			return feedUrl;
+		}
+		URI uri = URI.create(feedUrl);
+		return rssBaseUrl + "/" + uri.getHost() + uri.getRawPath();
+	}
+
 	private CareerNews parseNewsAPIArticle(JsonNode article) {
 		try {
 			String title = article.get("title").asText();
@@ -319,29 +404,23 @@ public class WebCrawlerService {
 	}
 
 	private boolean isCareerRelated(String text) {
-		String lowerText = text.toLowerCase();
-		String[] keywords = {
-			"career", "job", "employment", "hiring", "developer", "programmer",
-			"coding", "programming", "frontend", "backend", "design", "engineer",
-			"javascript", "python", "java", "react", "vue", "angular", "css",
-			"html", "database", "api", "cloud", "devops", "ui", "ux"
-		};
-
-		for (String keyword : keywords) {
-			if (lowerText.contains(keyword)) {
-				return true;
-			}
-		}
-		return false;
+		return CAREER_KEYWORDS.matchesAny(text);
 	}
 
+	// 같은 기사가 여러 소스에 다른 URL 로 실리는 경우가 있어 정규화된 제목도 함께 비교한다
 	private List<CareerNews> removeDuplicates(List<CareerNews> newsList) {
 		Map<String, CareerNews> uniqueNews = new HashMap<>();
+		Set<String> seenTitles = new HashSet<>();
 
 		for (CareerNews news : newsList) {
-			if (!uniqueNews.containsKey(news.getSourceUrl())) {
-				uniqueNews.put(news.getSourceUrl(), news);
+			if (uniqueNews.containsKey(news.getSourceUrl())) {
+				continue;
 			}
+			String titleKey = TextAnalyzer.STANDARD.fingerprint(news.getTitle());
+			if (!titleKey.isEmpty() && !seenTitles.add(titleKey)) {
+				continue;
+			}
+			uniqueNews.put(news.getSourceUrl(), news);
 		}
 
 		return new ArrayList<>(uniqueNews.values());
@@ -352,8 +431,8 @@ public class WebCrawlerService {
 			return 0;
 		}
 
-		List<CareerNews> savedNews = careerNewsRepository.saveAll(newsList);
-		return savedNews.size();
+		articleContentExtractor.enrich(newsList);
+		return newsIngestService.ingest(newsList).size();
 	}
 
 	public int crawlAndSaveCareerNews() {
@@ -362,17 +441,34 @@ public class WebCrawlerService {
 	}
 
 	public int crawlAndSaveAllSources() {
-		List<CareerNews> newsList = crawlAllSources();
+		return saveNewNews(crawlSources(true));
+	}
 
-		List<CareerNews> newsToSave = new ArrayList<>();
-		for (CareerNews news : newsList) {
-			if (!careerNewsRepository.existsBySourceUrl(news.getSourceUrl())) {
-				newsToSave.add(news);
+	/**
+	 * 수집 주기가 된 출처만 읽어 저장합니다. 여러 노드 중 임대를 얻은 한 곳에서만 실행됩니다.
+	 */
+	@Scheduled(fixedDelayString = "${crawler.sources.tick-ms:600000}", initialDelay = 120000)
+	public void crawlDueSources() {
+		if (!sourceCrawlEnabled) {
+			return;
+		}
+		Optional<JobLease> acquired = jobLeaseService.tryAcquire(SOURCE_CRAWL_JOB, SOURCE_CRAWL_LEASE);
+		if (acquired.isEmpty()) {
+			return;
+		}
+		try (JobLease lease = acquired.get()) {
+			int saved = saveNewNews(crawlSources(false));
+			if (saved > 0) {
+				log.info("수집 주기가 된 출처에서 뉴스 {}개 저장", saved);
 			}
 		}
+	}
 
+	// 출처별 recordFetch 가 이미 저장된 기사를 걸러냈다
+	private int saveNewNews(List<CareerNews> newsToSave) {
 		if (!newsToSave.isEmpty()) {
-			careerNewsRepository.saveAll(newsToSave);
+			articleContentExtractor.enrich(newsToSave);
+			newsIngestService.ingest(newsToSave);
 		}
 
 		return newsToSave.size();
@@ -0,0 +1,206 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+
+/**
+ * 여러 키워드를 한 번의 스캔으로 찾는 Aho-Corasick 오토마톤.
+ * 대소문자를 구분하지 않으며, 생성 후에는 불변이라 여러 스레드에서 공유할 수 있습니다.
+ * 매칭 비용은 키워드 수와 무관하게 텍스트 길이에 비례합니다.
+ */
+public final class AhoCorasickMatcher {
+
+	private static final int ROOT = 0;
+
+	private final String[] patterns;
+	// 상태별 전이: 정렬된 문자 배열과 같은 위치의 다음 상태
+	private final char[][] transitionChars;
+	private final int[][] transitionTargets;
+	private final int[] failure;
+	// 상태에 도달했을 때 끝나는 패턴 인덱스 (실패 링크의 출력 포함)
+	private final int[][] outputs;
+
+	private AhoCorasickMatcher(String[] patterns, char[][] transitionChars, int[][] transitionTargets,
+		int[] failure, int[][] outputs) {
+		this.patterns = patterns;
+		this.transitionChars = transitionChars;
+		this.transitionTargets = transitionTargets;
+		this.failure = failure;
+		this.outputs = outputs;
+	}
+
+	/**
+	 * 패턴 목록으로 오토마톤을 만듭니다. 빈 문자열과 중복 패턴은 제외되며 패턴 인덱스는 남은 순서를 따릅니다.
+	 */
+	public static AhoCorasickMatcher of(Collection<String> rawPatterns) {
+		Set<String> distinct = new LinkedHashSet<>();
+		for (String pattern : rawPatterns) {
+			if (pattern != null) {
+				String normalized = lower(pattern);
+				if (!normalized.isEmpty()) {
+					distinct.add(normalized);
+				}
+			}
+		}
+		String[] patterns = distinct.toArray(new String[0]);
+
+		List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+		List<List<Integer>> terminal = new ArrayList<>();
+		trie.add(new TreeMap<>());
+		terminal.add(new ArrayList<>());
+
+		for (int p = 0; p < patterns.length; p++) {
+			int state = ROOT;
+			for (int i = 0; i < patterns[p].length(); i++) {
+				char c = patterns[p].charAt(i);
+				Integer next = trie.get(state).get(c);
+				if (next == null) {
+					next = trie.size();
+					trie.get(state).put(c, next);
+					trie.add(new TreeMap<>());
+					terminal.add(new ArrayList<>());
+				}
+				state = next;
+			}
+			terminal.get(state).add(p);
+		}
+
+		int stateCount = trie.size();
+		char[][] transitionChars = new char[stateCount][];
+		int[][] transitionTargets = new int[stateCount][];
+		for (int s = 0; s < stateCount; s++) {
+			TreeMap<Character, Integer> edges = trie.get(s);
+			transitionChars[s] = new char[edges.size()];
+			transitionTargets[s] = new int[edges.size()];
+			int i = 0;
+			for (var edge : edges.entrySet()) {
+				transitionChars[s][i] = edge.getKey();
+				transitionTargets[s][i] = edge.getValue();
+				i++;
+			}
+		}
+
+		// BFS 순서로 실패 링크를 계산하고 출력 집합을 실패 링크 쪽과 합친다
+		int[] failure = new int[stateCount];
+		int[][] outputs = new int[stateCount][];
+		outputs[ROOT] = toArray(terminal.get(ROOT));
+
+		ArrayDeque<Integer> queue = new ArrayDeque<>();
+		for (int target : transitionTargets[ROOT]) {
+			failure[target] = ROOT;
+			outputs[target] = toArray(terminal.get(target));
+			queue.add(target);
+		}
+
+		while (!queue.isEmpty()) {
+			int state = queue.poll();
+			for (int i = 0; i < transitionChars[state].length; i++) {
+				char c = transitionChars[state][i];
+				int child = transitionTargets[state][i];
+
+				int fallback = failure[state];
+				int next;
+				while ((next = step(transitionChars, transitionTargets, fallback, c)) < 0 && fallback != ROOT) {
+					fallback = failure[fallback];
+				}
+				failure[child] = next >= 0 && next != child ? next : ROOT;
+				outputs[child] = merge(toArray(terminal.get(child)), outputs[failure[child]]);
+				queue.add(child);
+			}
+		}
+
+		return new AhoCorasickMatcher(patterns, transitionChars, transitionTargets, failure, outputs);
+	}
+
+	/**
+	 * 텍스트를 한 번 스캔하며 매칭된 패턴 인덱스를 전달합니다. 콜백이 false 를 반환하면 중단합니다.
+	 */
+	public void scan(CharSequence text, IntPredicate onMatch) {
+		if (text == null || patterns.length == 0) {
+			return;
+		}
+
+		int state = ROOT;
+		for (int i = 0; i < text.length(); i++) {
+			char c = Character.toLowerCase(text.charAt(i));
+			int next;
+			while ((next = step(transitionChars, transitionTargets, state, c)) < 0 && state != ROOT) {
+				state = failure[state];
+			}
+			state = next >= 0 ? next : ROOT;
+
+			for (int patternIndex : outputs[state]) {
+				if (!onMatch.test(patternIndex)) {
+					return;
+				}
+			}
+		}
+	}
+
+	public boolean containsAny(CharSequence text) {
+		boolean[] found = {false};
+		scan(text, patternIndex -> {
+			found[0] = true;
+			return false;
+		});
+		return found[0];
+	}
+
+	public Set<String> findAll(CharSequence text) {
+		Set<String> found = new LinkedHashSet<>();
+		scan(text, patternIndex -> {
+			found.add(patterns[patternIndex]);
+			return found.size() < patterns.length;
+		});
+		return found;
+	}
+
+	public int indexOf(String pattern) {
+		String normalized = lower(pattern);
+		for (int i = 0; i < patterns.length; i++) {
+			if (patterns[i].equals(normalized)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public List<String> patterns() {
+		return Collections.unmodifiableList(Arrays.asList(patterns));
+	}
+
+	private static int step(char[][] transitionChars, int[][] transitionTargets, int state, char c) {
+		int index = Arrays.binarySearch(transitionChars[state], c);
+		return index >= 0 ? transitionTargets[state][index] : -1;
+	}
+
+	private static String lower(String value) {
+		StringBuilder builder = new StringBuilder(value.length());
+		String trimmed = value.trim();
+		for (int i = 0; i < trimmed.length(); i++) {
+			builder.append(Character.toLowerCase(trimmed.charAt(i)));
+		}
+		return builder.toString();
+	}
+
+	private static int[] toArray(List<Integer> values) {
+		return values.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static int[] merge(int[] own, int[] inherited) {
+		if (inherited.length == 0) {
+			return own;
+		}
+		int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+		System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+		return merged;
+	}
+}
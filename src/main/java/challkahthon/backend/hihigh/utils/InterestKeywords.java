@@ -0,0 +1,78 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 쉼표로 구분된 관심사/키워드 문자열 파싱과 키워드 사전(keyword 테이블) 정규화 규칙.
+ * <p>
+ * 관심사는 기사 쪽 연결 키워드(articleKeywordNames)에 정규화한 값이 그대로 있을 때 연결됩니다.
+ * 기사 쪽에는 여러 단어 키워드의 각 단어도 들어가므로 "react" 관심사는 "react native" 기사와 연결되고,
+ * 단어 단위라 "java" 관심사가 "javascript" 기사와 연결되지는 않습니다.
+ */
+public final class InterestKeywords {
+
+	private static final Pattern SEPARATOR = Pattern.compile("[,，]");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	private InterestKeywords() {
+	}
+
+	/**
+	 * 입력 순서를 유지하며 공백을 제거한 키워드 목록을 반환합니다.
+	 */
+	public static List<String> parse(String raw) {
+		if (raw == null || raw.trim().isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		List<String> keywords = new ArrayList<>();
+		for (String token : SEPARATOR.split(raw)) {
+			String keyword = token.trim();
+			if (!keyword.isEmpty()) {
+				keywords.add(keyword);
+			}
+		}
+		return keywords;
+	}
+
+	/**
+	 * 키워드 사전에 저장되는 형태 (앞뒤 공백 제거, 소문자)
+	 */
+	public static String normalize(String keyword) {
+		return keyword.trim().toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * 여러 문자열에 들어 있는 키워드를 정규화해 중복 없이 모읍니다.
+	 */
+	public static Set<String> normalizedSet(String... raws) {
+		Set<String> names = new LinkedHashSet<>();
+		for (String raw : raws) {
+			for (String keyword : parse(raw)) {
+				names.add(normalize(keyword));
+			}
+		}
+		return names;
+	}
+
+	/**
+	 * 기사를 연결할 키워드. normalizedSet 에 여러 단어 키워드의 각 단어를 더합니다.
+	 */
+	public static Set<String> articleKeywordNames(String... raws) {
+		Set<String> names = normalizedSet(raws);
+		for (String name : List.copyOf(names)) {
+			String[] words = WHITESPACE.split(name);
+			if (words.length > 1) {
+				names.addAll(Arrays.asList(words));
+			}
+		}
+		return names;
+	}
+}
@@ -1,14 +1,26 @@
 package challkahthon.backend.hihigh.utils;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import java.util.*;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class InterestParsingUtils {
+
+    private final KeywordDictionary keywordDictionary;
+
+    // 관심사 문자열 → 확장 키워드. 같은 사용자의 관심사가 기사마다 반복해서 파싱되는 것을 막는다
+    private final Cache<String, List<String>> parsedInterests = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
     
     private static final Map<String, List<String>> TECH_STACK_KEYWORDS = Map.of(
         "frontend", Arrays.asList("react", "vue", "angular", "javascript", "typescript", "css", "html", "웹개발", "프론트엔드"),
@@ -38,7 +50,11 @@ public class InterestParsingUtils {
         if (interests == null || interests.trim().isEmpty()) {
             return Collections.emptyList();
         }
-        
+
+        return parsedInterests.get(interests, this::expandInterests);
+    }
+
+    private List<String> expandInterests(String interests) {
         Set<String> keywords = new HashSet<>();
         String normalizedInterests = interests.toLowerCase().trim();
         
@@ -55,7 +71,7 @@ public class InterestParsingUtils {
         }
         
         log.debug("Parsed interests '{}' to keywords: {}", interests, keywords);
-        return new ArrayList<>(keywords);
+        return List.copyOf(keywords);
     }
     
     public Set<String> categorizeInterests(String interests) {
@@ -110,28 +126,18 @@ public class InterestParsingUtils {
             return 0.0;
         }
         
-        String normalizedContent = newsContent.toLowerCase();
         List<String> keywords = parseInterestsToKeywords(userInterests);
-        
-        int matchCount = 0;
+        KeywordMatcher matcher = keywordDictionary.exactMatcherFor(keywords);
+
+        int matchCount = matcher.match(newsContent).cardinality();
         int totalKeywords = keywords.size();
         
-        for (String keyword : keywords) {
-            if (normalizedContent.contains(keyword.toLowerCase())) {
-                matchCount++;
-            }
-        }
-        
         double baseScore = totalKeywords > 0 ? (double) matchCount / totalKeywords : 0.0;
         double weightedScore = baseScore;
         
-        if (normalizedContent.length() > 100) {
-            String titlePart = normalizedContent.substring(0, Math.min(100, normalizedContent.length()));
-            for (String keyword : keywords) {
-                if (titlePart.contains(keyword.toLowerCase())) {
-                    weightedScore += 0.1;
-                }
-            }
+        if (newsContent.length() > 100) {
+            int titleMatches = matcher.match(newsContent.subSequence(0, 100)).cardinality();
+            weightedScore += 0.1 * titleMatches;
         }
         
         return Math.min(1.0, weightedScore);
@@ -0,0 +1,90 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관심사 키워드의 한/영 변형어 사전과, 키워드 조합별로 미리 컴파일한 매처를 관리합니다.
+ * 사전이 바뀌면 컴파일된 매처를 모두 버리고 다음 요청 때 다시 만듭니다.
+ */
+@Component
+@Slf4j
+public class KeywordDictionary {
+
+	private static final Map<String, List<String>> DEFAULT_VARIATIONS = Map.ofEntries(
+		Map.entry("디자인", List.of("design", "designer", "designing", "ui", "ux")),
+		Map.entry("마케팅", List.of("marketing", "market", "promotion", "advertising")),
+		Map.entry("개발", List.of("development", "developer", "programming", "coding", "software")),
+		Map.entry("기획", List.of("planning", "plan", "strategy", "management", "pm")),
+		Map.entry("데이터", List.of("data", "analytics", "analysis", "database")),
+		Map.entry("design", List.of("디자인", "디자이너", "ui", "ux", "visual")),
+		Map.entry("marketing", List.of("마케팅", "광고", "홍보")),
+		Map.entry("development", List.of("개발", "개발자", "프로그래밍", "코딩")),
+		Map.entry("frontend", List.of("프론트엔드", "front-end", "ui")),
+		Map.entry("backend", List.of("백엔드", "back-end", "서버"))
+	);
+
+	private final Cache<MatcherKey, KeywordMatcher> matchers = Caffeine.newBuilder()
+		.maximumSize(10_000)
+		.build();
+
+	private volatile Map<String, List<String>> variations = DEFAULT_VARIATIONS;
+
+	/**
+	 * 키워드와 변형어를 모두 찾는 매처
+	 */
+	public KeywordMatcher matcherFor(Collection<String> keywords) {
+		return matchers.get(new MatcherKey(normalizeAll(keywords), true),
+			key -> new KeywordMatcher(key.keywords(), variations));
+	}
+
+	/**
+	 * 키워드 자체만 찾는 매처 (변형어 제외)
+	 */
+	public KeywordMatcher exactMatcherFor(Collection<String> keywords) {
+		return matchers.get(new MatcherKey(normalizeAll(keywords), false),
+			key -> new KeywordMatcher(key.keywords(), Collections.emptyMap()));
+	}
+
+	public List<String> variationsOf(String keyword) {
+		return variations.getOrDefault(normalize(keyword), Collections.emptyList());
+	}
+
+	public Map<String, List<String>> getVariations() {
+		return variations;
+	}
+
+	public synchronized void reload(Map<String, List<String>> newVariations) {
+		Map<String, List<String>> normalized = new LinkedHashMap<>();
+		newVariations.forEach((keyword, values) -> normalized.put(normalize(keyword), List.copyOf(values)));
+		variations = Collections.unmodifiableMap(normalized);
+		matchers.invalidateAll();
+		log.info("키워드 변형어 사전 갱신: {}개 키워드", normalized.size());
+	}
+
+	static String normalize(String keyword) {
+		return keyword == null ? "" : keyword.toLowerCase().trim();
+	}
+
+	private static List<String> normalizeAll(Collection<String> keywords) {
+		List<String> normalized = new ArrayList<>(keywords.size());
+		for (String keyword : keywords) {
+			normalized.add(normalize(keyword));
+		}
+		return normalized;
+	}
+
+	private record MatcherKey(List<String> keywords, boolean withVariations) {
+	}
+}
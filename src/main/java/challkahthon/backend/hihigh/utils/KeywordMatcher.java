@@ -0,0 +1,113 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import challkahthon.backend.hihigh.analysis.TextAnalyzer;
+
+/**
+ * 키워드 목록과 각 키워드의 변형어를 하나의 오토마톤으로 묶은 매처.
+ * 텍스트를 한 번 스캔해 어떤 키워드(변형어 포함)가 등장했는지 알려줍니다.
+ * 키워드와 텍스트를 모두 TextAnalyzer 토큰열로 바꿔 비교하므로 토큰 경계에서만 일치합니다.
+ * ("ui" 는 "build" 에 매칭되지 않고, "designer" 는 "design" 에, "디자인을" 은 "디자인" 에 매칭됩니다)
+ */
+public final class KeywordMatcher {
+
+	private static final char TOKEN_SEPARATOR = '|';
+
+	private final List<String> keywords;
+	private final AhoCorasickMatcher automaton;
+	// 오토마톤 패턴 인덱스 → 그 패턴을 가진 키워드 인덱스들
+	private final int[][] owners;
+
+	KeywordMatcher(List<String> keywords, Map<String, List<String>> variations) {
+		this.keywords = List.copyOf(keywords);
+
+		Set<String> terms = new LinkedHashSet<>();
+		for (String keyword : this.keywords) {
+			addPattern(terms, keyword);
+			for (String variation : variations.getOrDefault(keyword, Collections.emptyList())) {
+				addPattern(terms, variation);
+			}
+		}
+		this.automaton = AhoCorasickMatcher.of(terms);
+
+		List<String> patterns = automaton.patterns();
+		List<List<Integer>> ownerLists = new ArrayList<>();
+		for (int p = 0; p < patterns.size(); p++) {
+			ownerLists.add(new ArrayList<>());
+		}
+		for (int k = 0; k < this.keywords.size(); k++) {
+			String keyword = this.keywords.get(k);
+			addOwner(ownerLists, automaton.indexOf(toPattern(keyword)), k);
+			for (String variation : variations.getOrDefault(keyword, Collections.emptyList())) {
+				addOwner(ownerLists, automaton.indexOf(toPattern(variation)), k);
+			}
+		}
+		this.owners = new int[ownerLists.size()][];
+		for (int p = 0; p < ownerLists.size(); p++) {
+			this.owners[p] = ownerLists.get(p).stream().mapToInt(Integer::intValue).toArray();
+		}
+	}
+
+	/**
+	 * 변형어 없이 키워드 자체만 찾는 매처
+	 */
+	public static KeywordMatcher of(Collection<String> keywords) {
+		List<String> normalized = new ArrayList<>(keywords.size());
+		for (String keyword : keywords) {
+			normalized.add(KeywordDictionary.normalize(keyword));
+		}
+		return new KeywordMatcher(normalized, Collections.emptyMap());
+	}
+
+	// 불용어만으로 이루어진 키워드는 토큰이 없으므로 패턴에서 제외한다
+	private static void addPattern(Set<String> terms, String term) {
+		String pattern = toPattern(term);
+		if (pattern.length() > 1) {
+			terms.add(pattern);
+		}
+	}
+
+	private static String toPattern(CharSequence term) {
+		return TextAnalyzer.STANDARD.analyzeToDelimited(term, TOKEN_SEPARATOR);
+	}
+
+	private static void addOwner(List<List<Integer>> ownerLists, int patternIndex, int keywordIndex) {
+		if (patternIndex >= 0 && !ownerLists.get(patternIndex).contains(keywordIndex)) {
+			ownerLists.get(patternIndex).add(keywordIndex);
+		}
+	}
+
+	/**
+	 * 텍스트에 등장한 키워드의 인덱스(keywords() 기준)를 반환합니다.
+	 */
+	public BitSet match(CharSequence text) {
+		BitSet matched = new BitSet(keywords.size());
+		automaton.scan(toPattern(text), patternIndex -> {
+			for (int keywordIndex : owners[patternIndex]) {
+				matched.set(keywordIndex);
+			}
+			return matched.cardinality() < keywords.size();
+		});
+		return matched;
+	}
+
+	public boolean matchesAny(CharSequence text) {
+		return automaton.containsAny(toPattern(text));
+	}
+
+	public int indexOf(String keyword) {
+		return keywords.indexOf(KeywordDictionary.normalize(keyword));
+	}
+
+	public List<String> keywords() {
+		return keywords;
+	}
+}
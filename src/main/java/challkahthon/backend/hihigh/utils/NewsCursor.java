@@ -0,0 +1,48 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import challkahthon.backend.hihigh.domain.projection.CareerNewsListView;
+
+/**
+ * (createdAt, id) 기준 뉴스 목록 커서. 클라이언트에는 Base64 로 인코딩한 불투명 토큰으로 전달합니다.
+ * 다음 페이지는 "이 위치보다 뒤" 조건으로 인덱스를 타고 바로 찾으므로 페이지 깊이와 무관하게 비용이 같습니다.
+ */
+public record NewsCursor(LocalDateTime createdAt, Long id) {
+
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * 커서 페이지 크기는 1 이상 MAX_PAGE_SIZE 이하여야 합니다. 벗어나면 IllegalArgumentException 을 던집니다.
+	 */
+	public static int checkPageSize(int size) {
+		if (size < 1 || size > MAX_PAGE_SIZE) {
+			throw new IllegalArgumentException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+		}
+		return size;
+	}
+
+	public static NewsCursor of(CareerNewsListView news) {
+		return new NewsCursor(news.getCreatedAt(), news.getId());
+	}
+
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static NewsCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			return new NewsCursor(LocalDateTime.parse(raw.substring(0, separator)),
+				Long.parseLong(raw.substring(separator + 1)));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("유효하지 않은 커서입니다: " + token);
+		}
+	}
+}
@@ -0,0 +1,49 @@
+package challkahthon.backend.hihigh.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 썸네일 프록시 URL 과 원본 URL 해시 규칙.
+ * 응답 DTO 는 원본 URL 대신 이 URL 을 내보내고, 썸네일 캐시 파일 이름도 같은 해시를 씁니다.
+ */
+public final class ThumbnailUrls {
+
+	public static final String PATH_PREFIX = "/api/thumbnails/";
+	public static final int DEFAULT_WIDTH = 320;
+
+	private ThumbnailUrls() {
+	}
+
+	/**
+	 * 기사 썸네일의 프록시 URL. baseUrl 이 비어 있으면 루트 상대 경로입니다.
+	 * 원본 URL 이 바뀌면 v 값이 바뀌므로 오래 캐시해도 이전 이미지가 남지 않습니다.
+	 * 원본이 없거나 http(s) URL 이 아니면 null 입니다.
+	 */
+	public static String proxied(String baseUrl, Long newsId, String originalUrl) {
+		if (newsId == null || !isFetchable(originalUrl)) {
+			return null;
+		}
+		return (baseUrl != null ? baseUrl : "") + PATH_PREFIX + newsId + "?w=" + DEFAULT_WIDTH
+			+ "&v=" + hash(originalUrl).substring(0, 12);
+	}
+
+	// API 응답에 이미지가 없으면 "null" 같은 문자열이 저장되어 있을 수 있다
+	public static boolean isFetchable(String originalUrl) {
+		return originalUrl != null && (originalUrl.startsWith("http://") || originalUrl.startsWith("https://"));
+	}
+
+	/**
+	 * 원본 URL 의 SHA-256 (16진수)
+	 */
+	public static String hash(String originalUrl) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(originalUrl.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -0,0 +1,39 @@
+package challkahthon.backend.hihigh.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 본문 후보 점수화가 메뉴/사이드바/푸터를 버리고 기사 문단만 남기는지 확인합니다.
+ */
+class ReadabilityExtractorTest {
+
+	private static final String PARAGRAPH = "<p>Virtual threads let a server handle many blocking requests, "
+		+ "because each request gets its own cheap thread instead of a pooled platform thread.</p>";
+
+	@Test
+	void keepsArticleParagraphsAndDropsBoilerplate() {
+		String html = "<html><body>"
+			+ "<nav><a href='/'>Home</a> <a href='/jobs'>Jobs</a> <a href='/about'>About us and our team</a></nav>"
+			+ "<div class='sidebar'><p>Subscribe to our newsletter for weekly updates on everything.</p></div>"
+			+ "<article>" + PARAGRAPH + PARAGRAPH.replace("Virtual", "Structured") + PARAGRAPH.replace("server", "service")
+			+ "</article>"
+			+ "<footer><p>Copyright 2025 Example Media. All rights reserved worldwide.</p></footer>"
+			+ "</body></html>";
+
+		String content = ReadabilityExtractor.STANDARD.extract(Jsoup.parse(html));
+
+		assertThat(content)
+			.contains("Virtual threads let a server", "Structured threads", "many blocking requests")
+			.doesNotContain("Home", "newsletter", "Copyright");
+	}
+
+	@Test
+	void returnsNullWhenThereIsTooLittleText() {
+		String html = "<html><body><article><p>Short teaser paragraph for the article.</p></article></body></html>";
+
+		assertThat(ReadabilityExtractor.STANDARD.extract(Jsoup.parse(html))).isNull();
+	}
+}
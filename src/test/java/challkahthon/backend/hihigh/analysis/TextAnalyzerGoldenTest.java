@@ -0,0 +1,55 @@
+package challkahthon.backend.hihigh.analysis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvFileSource;
+
+/**
+ * golden-corpus.tsv 는 InterestParsingUtils 의 관심사 키워드와 대표 문장에 대한 기대 토큰열입니다.
+ * 분석 규칙을 바꾸면 색인/매칭 결과가 달라지므로 코퍼스도 함께 갱신해야 합니다.
+ */
+class TextAnalyzerGoldenTest {
+
+	@ParameterizedTest(name = "{0}")
+	@CsvFileSource(resources = "/analysis/golden-corpus.tsv", delimiter = '\t', numLinesToSkip = 1)
+	void matchesGoldenCorpus(String input, String expected) {
+		List<String> expectedTokens = expected == null ? List.of() : Arrays.asList(expected.split(" "));
+
+		assertThat(TextAnalyzer.STANDARD.analyze(input)).isEqualTo(expectedTokens);
+	}
+
+	@Test
+	void streamReusesTermBuffer() {
+		TokenStream stream = TextAnalyzer.STANDARD.tokenStream("react 디자인");
+
+		assertThat(stream.incrementToken()).isTrue();
+		char[] buffer = stream.termBuffer();
+		assertThat(stream.term()).isEqualTo("react");
+		assertThat(stream.type()).isEqualTo(TokenStream.TokenType.WORD);
+
+		assertThat(stream.incrementToken()).isTrue();
+		assertThat(stream.termBuffer()).isSameAs(buffer);
+		assertThat(stream.term()).isEqualTo("디자");
+		assertThat(stream.type()).isEqualTo(TokenStream.TokenType.HANGUL);
+		assertThat(stream.startOffset()).isEqualTo(6);
+	}
+
+	@Test
+	void jamoModeDecomposesWholeWord() {
+		TextAnalyzer analyzer = TextAnalyzer.builder().hangulMode(TextAnalyzer.HangulMode.JAMO).build();
+
+		assertThat(analyzer.analyze("개발")).containsExactly("\u1100\u1162\u1107\u1161\u11af");
+		assertThat(analyzer.analyze("디자인을")).isEqualTo(analyzer.analyze("디자인"));
+	}
+
+	@Test
+	void fingerprintIgnoresCaseWidthAndPunctuation() {
+		assertThat(TextAnalyzer.STANDARD.fingerprint("Ｒｅａｃｔ 19 Released!"))
+			.isEqualTo(TextAnalyzer.STANDARD.fingerprint("react 19 released"));
+	}
+}
@@ -0,0 +1,28 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * 본문 캐시 키 규칙. 같은 기사를 가리키는 URL 이 같은 키가 되어야 원문을 다시 받지 않습니다.
+ */
+class ArticleContentExtractorTest {
+
+	@ParameterizedTest(name = "{0}")
+	@CsvSource(delimiter = '|', nullValues = "null", value = {
+		"HTTPS://Example.COM/News/Article?id=7&utm_source=x#top | https://example.com/News/Article?id=7",
+		"https://example.com/a?utm_medium=x&fbclid=y&gclid=z      | https://example.com/a",
+		"https://example.com/a?page=2&UTM_Campaign=spring         | https://example.com/a?page=2",
+		"http://example.com:80                                    | http://example.com/",
+		"https://example.com:443/a                                | https://example.com/a",
+		"https://example.com:8443/a                               | https://example.com:8443/a",
+		"ftp://example.com/file                                   | null",
+		"/relative/path                                           | null",
+		"not a url                                                | null",
+	})
+	void canonicalizesUrls(String url, String expected) {
+		assertThat(ArticleContentExtractor.canonicalize(url)).isEqualTo(expected);
+	}
+}
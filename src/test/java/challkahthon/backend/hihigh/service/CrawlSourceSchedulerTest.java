@@ -0,0 +1,133 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.CrawlSourceSchedule;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.CrawlSourceScheduleRepository;
+
+/**
+ * 출처별 수집 주기 계산. 요청 실패는 "새 기사 없음"과 달리 주기를 늘리지 않아야 합니다.
+ */
+class CrawlSourceSchedulerTest {
+
+	private static final String SOURCE = CrawlSourceScheduler.newsApiKey("react developer");
+
+	private CrawlSourceScheduleRepository scheduleRepository;
+	private CareerNewsRepository careerNewsRepository;
+	private CrawlSourceScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		scheduleRepository = mock(CrawlSourceScheduleRepository.class);
+		careerNewsRepository = mock(CareerNewsRepository.class);
+		scheduler = new CrawlSourceScheduler(scheduleRepository, careerNewsRepository);
+	}
+
+	@ParameterizedTest(name = "{0}분, 신규 {1}/{2}, 하루 {3}건 -> {4}분")
+	@CsvSource({
+		"60,    0, 5, 0,  120",
+		"60,    2, 5, 0,  60",
+		"120,   5, 5, 0,  60",
+		"40,    5, 5, 0,  30",
+		"10080, 0, 5, 0,  10080",
+		"600,   1, 5, 24, 300",
+	})
+	void adjustsIntervalByYield(long current, int newItems, int pageSize, double ratePerDay, long expected) {
+		assertThat(CrawlSourceScheduler.nextInterval(current, newItems, pageSize, ratePerDay)).isEqualTo(expected);
+	}
+
+	@Test
+	void emptyFetchBacksOff() {
+		when(scheduleRepository.findById(SOURCE)).thenReturn(Optional.of(schedule(60)));
+		when(careerNewsRepository.findExistingSourceUrls(anyCollection())).thenReturn(Set.of("https://example.com/a"));
+
+		List<CareerNews> newNews = scheduler.recordFetch(SOURCE,
+			List.of(CareerNews.builder().sourceUrl("https://example.com/a").build()), 5);
+
+		CrawlSourceSchedule saved = savedSchedule();
+		assertThat(newNews).isEmpty();
+		assertThat(saved.getIntervalMinutes()).isEqualTo(120);
+		assertThat(saved.getTotalFetches()).isEqualTo(5);
+	}
+
+	@Test
+	void returnsOnlyUnsavedArticles() {
+		when(scheduleRepository.findById(SOURCE)).thenReturn(Optional.of(schedule(60)));
+		when(careerNewsRepository.findExistingSourceUrls(anyCollection())).thenReturn(Set.of("https://example.com/a"));
+
+		List<CareerNews> newNews = scheduler.recordFetch(SOURCE, List.of(
+			CareerNews.builder().sourceUrl("https://example.com/a").build(),
+			CareerNews.builder().sourceUrl("https://example.com/b").build(),
+			CareerNews.builder().build()), 5);
+
+		assertThat(newNews).extracting(CareerNews::getSourceUrl).containsExactly("https://example.com/b");
+		assertThat(savedSchedule().getLastNewItems()).isEqualTo(1);
+	}
+
+	@Test
+	void failureRetriesSoonWithoutTouchingInterval() {
+		when(scheduleRepository.findById(SOURCE)).thenReturn(Optional.of(schedule(240)));
+		LocalDateTime before = LocalDateTime.now();
+
+		scheduler.recordFailure(SOURCE);
+
+		CrawlSourceSchedule saved = savedSchedule();
+		assertThat(saved.getIntervalMinutes()).isEqualTo(240);
+		assertThat(saved.getTotalFetches()).isEqualTo(4);
+		assertThat(saved.getLastNewItems()).isEqualTo(3);
+		assertThat(saved.getNextCrawlAt()).isBetween(before.plusMinutes(30), LocalDateTime.now().plusMinutes(30));
+	}
+
+	@Test
+	void failureOnFirstFetchKeepsInitialInterval() {
+		when(scheduleRepository.findById(SOURCE)).thenReturn(Optional.empty());
+
+		scheduler.recordFailure(SOURCE);
+
+		CrawlSourceSchedule saved = savedSchedule();
+		assertThat(saved.getSourceKey()).isEqualTo(SOURCE);
+		assertThat(saved.getIntervalMinutes()).isEqualTo(60);
+		assertThat(saved.getTotalFetches()).isZero();
+		assertThat(Duration.between(LocalDateTime.now(), saved.getNextCrawlAt()).toMinutes()).isBetween(29L, 30L);
+	}
+
+	@Test
+	void retryNeverWaitsLongerThanTheCurrentInterval() {
+		assertThat(CrawlSourceScheduler.retryDelay(45)).isEqualTo(30);
+		assertThat(CrawlSourceScheduler.retryDelay(20)).isEqualTo(20);
+	}
+
+	private CrawlSourceSchedule schedule(long intervalMinutes) {
+		return CrawlSourceSchedule.builder()
+			.sourceKey(SOURCE)
+			.intervalMinutes(intervalMinutes)
+			.lastNewItems(3)
+			.totalFetches(4)
+			.totalNewItems(7)
+			.build();
+	}
+
+	private CrawlSourceSchedule savedSchedule() {
+		ArgumentCaptor<CrawlSourceSchedule> captor = ArgumentCaptor.forClass(CrawlSourceSchedule.class);
+		verify(scheduleRepository).save(captor.capture());
+		return captor.getValue();
+	}
+}
@@ -0,0 +1,167 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import challkahthon.backend.hihigh.domain.entity.CareerNews;
+import challkahthon.backend.hihigh.domain.entity.User;
+import challkahthon.backend.hihigh.event.DomainEventPublisher;
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.repository.UserRepository;
+import challkahthon.backend.hihigh.stub.LatencyProfile;
+import challkahthon.backend.hihigh.stub.StubHttpServer;
+
+/**
+ * 외부 뉴스 API 와 RSS 호스트 대신 StubHttpServer 의 녹화 픽스처로 크롤러를 실행합니다. 네트워크 없이 동작합니다.
+ */
+class CrawlerStubServerTest {
+
+	private StubHttpServer server;
+	private CrawlSourceScheduler crawlSourceScheduler;
+	private CareerNewsRepository careerNewsRepository;
+
+	@BeforeEach
+	void setUp() {
+		server = StubHttpServer.start();
+		crawlSourceScheduler = mock(CrawlSourceScheduler.class);
+		careerNewsRepository = mock(CareerNewsRepository.class);
+		when(crawlSourceScheduler.isDue(anyString())).thenReturn(true);
+		// 저장된 기사가 없으므로 가져온 기사가 모두 새 기사다
+		when(crawlSourceScheduler.recordFetch(anyString(), anyList(), anyInt()))
+			.thenAnswer(invocation -> invocation.getArgument(1));
+		when(careerNewsRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void parsesNewsApiFixture() {
+		StubHttpServer.Route route = server.route("/v2/everything").fixture("stubs/newsapi-everything.json");
+
+		List<CareerNews> news = webCrawlerService().crawlFromNewsAPI();
+
+		assertThat(route.requestCount()).isEqualTo(1);
+		assertThat(news).extracting(CareerNews::getSourceUrl).containsExactly(
+			"https://stub.example.com/newsapi/virtual-threads",
+			"https://stub.example.com/newsapi/react-19",
+			"https://stub.example.com/newsapi/platform-engineering");
+		assertThat(news.get(0).getSource()).isEqualTo("InfoWorld");
+		assertThat(news.get(1).getThumbnailUrl()).isEmpty();
+	}
+
+	@Test
+	void requestsRssFeedsThroughBaseUrl() {
+		StubHttpServer.Route devTo = server.route("/dev.to/feed").fixture("stubs/rss-feed.xml");
+		server.route("/").fixture("stubs/rss-feed.xml");
+
+		List<CareerNews> news = webCrawlerService().crawlFromRSSFeeds();
+
+		assertThat(devTo.requestCount()).isEqualTo(1);
+		assertThat(news).extracting(CareerNews::getTitle)
+			.doesNotContain("Weekly photo roundup")
+			.contains("Getting your first frontend developer job in 2025");
+		assertThat(news).filteredOn(item -> item.getSource().equals("Dev.to")).hasSize(2);
+	}
+
+	@Test
+	void rateLimitedRequestsReturnNoArticles() {
+		StubHttpServer.Route route = server.route("/api/v4/search").fixture("stubs/gnews-search.json").rateLimit(1);
+		WebCrawlerService crawler = webCrawlerService();
+
+		assertThat(crawler.crawlFromGNewsAPI()).hasSize(3);
+		assertThat(crawler.crawlFromGNewsAPI()).isEmpty();
+		assertThat(route.rateLimitedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void serverErrorsAndLatencyAreSimulated() {
+		StubHttpServer.Route route = server.route("/v2/everything").fixture("stubs/newsapi-everything.json")
+			.latency(LatencyProfile.fixed(150))
+			.errorRate(1.0, 503);
+
+		long started = System.nanoTime();
+		List<CareerNews> news = webCrawlerService().crawlFromNewsAPI();
+		long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+		assertThat(news).isEmpty();
+		assertThat(route.errorCount()).isEqualTo(1);
+		assertThat(elapsedMillis).isGreaterThanOrEqualTo(150);
+	}
+
+	@Test
+	void failedRequestsAreRecordedAsFailuresNotEmptyFetches() {
+		server.route("/v2/everything").fixture("stubs/newsapi-everything.json").errorRate(1.0, 401);
+		server.route("/api/v4/search").fixture("stubs/gnews-search.json").errorRate(1.0, 429);
+
+		webCrawlerService().crawlAndSaveAllSources();
+
+		verify(crawlSourceScheduler).recordFailure(CrawlSourceScheduler.newsApiKey(
+			"software developer OR programming OR javascript OR react"));
+		verify(crawlSourceScheduler).recordFailure(CrawlSourceScheduler.gNewsKey("software developer programming"));
+		verify(crawlSourceScheduler).recordFailure(CrawlSourceScheduler.rssKey("Dev.to"));
+		verify(crawlSourceScheduler, never()).recordFetch(anyString(), anyList(), anyInt());
+	}
+
+	@Test
+	void personalizedCrawlSavesArticlesFromBothApis() {
+		server.route("/v2/everything").fixture("stubs/newsapi-everything.json")
+			.latency(LatencyProfile.logNormal(20, 0.5, 200));
+		server.route("/api/v4/search").fixture("stubs/gnews-search.json")
+			.latency(LatencyProfile.uniform(5, 30));
+		User user = new User();
+		user.setLoginId("stub-user");
+		user.setInterests("java");
+
+		int saved = personalizedCrawlerService().crawlAndSaveForUser(user);
+
+		assertThat(saved).isEqualTo(6);
+	}
+
+	private WebCrawlerService webCrawlerService() {
+		WebCrawlerService service = new WebCrawlerService(newsIngestService(),
+			crawlSourceScheduler, mock(JobLeaseService.class), mock(ArticleContentExtractor.class));
+		ReflectionTestUtils.setField(service, "newsApiKey", "stub-key");
+		ReflectionTestUtils.setField(service, "gNewsApiKey", "stub-key");
+		ReflectionTestUtils.setField(service, "newsApiBaseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(service, "gNewsBaseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(service, "rssBaseUrl", server.baseUrl());
+		return service;
+	}
+
+	private PersonalizedCrawlerService personalizedCrawlerService() {
+		PersonalizedCrawlerService service = new PersonalizedCrawlerService(mock(UserRepository.class),
+			new RestTemplate(), new ObjectMapper(), newsIngestService(),
+			mock(JobLeaseService.class), mock(CrawlJobService.class), crawlSourceScheduler,
+			mock(ArticleContentExtractor.class));
+		ReflectionTestUtils.setField(service, "newsApiKey", "stub-key");
+		ReflectionTestUtils.setField(service, "gNewsApiKey", "stub-key");
+		ReflectionTestUtils.setField(service, "newsApiBaseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(service, "gNewsBaseUrl", server.baseUrl());
+		ReflectionTestUtils.setField(service, "queryDelayMillis", 0L);
+		return service;
+	}
+
+	private NewsIngestService newsIngestService() {
+		return new NewsIngestService(careerNewsRepository, mock(KeywordLinkService.class),
+			mock(DomainEventPublisher.class));
+	}
+}
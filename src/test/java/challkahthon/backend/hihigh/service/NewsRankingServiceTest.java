@@ -0,0 +1,91 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import challkahthon.backend.hihigh.service.NewsRankingService.RankedNews;
+import challkahthon.backend.hihigh.service.NewsRankingService.RankingCandidate;
+import challkahthon.backend.hihigh.utils.KeywordDictionary;
+
+/**
+ * 관련도(BM25 × 출처 가중치)와 반감기 감쇠, 상위 K 선택.
+ */
+class NewsRankingServiceTest {
+
+	private static final double HALF_LIFE_HOURS = 72;
+
+	private NewsSearchIndex index;
+	private NewsRankingService rankingService;
+
+	@BeforeEach
+	void setUp() {
+		index = new NewsSearchIndex(null);
+		index.index(1L, "React hooks guide", "state management");
+		index.index(2L, "React hooks guide", "state management");
+		index.index(3L, "Java release", "virtual threads");
+		rankingService = new NewsRankingService(index, mock(KeywordDictionary.class), HALF_LIFE_HOURS,
+			Map.of("GNews", 0.5));
+	}
+
+	@Test
+	void appliesSourceWeightToRelevance() {
+		LocalDateTime now = LocalDateTime.now();
+
+		List<RankedNews> ranked = rankingService.score("react", List.of(
+			new RankingCandidate(1L, "NewsAPI", now),
+			new RankingCandidate(2L, "GNews", now),
+			new RankingCandidate(3L, "NewsAPI", now)));
+
+		assertThat(ranked).extracting(RankedNews::newsId).containsExactly(1L, 2L, 3L);
+		assertThat(ranked.get(0).relevance()).isPositive();
+		assertThat(ranked.get(1).relevance()).isCloseTo(ranked.get(0).relevance() * 0.5, within(1e-9));
+		assertThat(ranked.get(2).relevance()).isZero();
+	}
+
+	@Test
+	void halvesScoreEveryHalfLife() {
+		LocalDateTime now = LocalDateTime.now();
+
+		assertThat(rankingService.finalScore(new RankedNews(1L, 8.0, now), now)).isEqualTo(8.0);
+		assertThat(rankingService.finalScore(new RankedNews(1L, 8.0, now.minusHours(72)), now))
+			.isCloseTo(4.0, within(1e-9));
+		assertThat(rankingService.finalScore(new RankedNews(1L, 8.0, now.minusHours(144)), now))
+			.isCloseTo(2.0, within(1e-9));
+		// 발행 시각을 모르면 반감기 한 번으로 본다
+		assertThat(rankingService.finalScore(new RankedNews(1L, 8.0, null), now)).isEqualTo(4.0);
+	}
+
+	@Test
+	void topKOrdersByDecayedScore() {
+		LocalDateTime now = LocalDateTime.now();
+		List<RankedNews> news = List.of(
+			new RankedNews(1L, 1.0, now),
+			new RankedNews(2L, 3.0, now.minusHours(72)),
+			new RankedNews(3L, 3.0, now.minusHours(216)),
+			new RankedNews(4L, 0.5, now));
+
+		assertThat(rankingService.topK(news, 2)).extracting(RankedNews::newsId).containsExactly(2L, 1L);
+		assertThat(rankingService.topK(news, 10)).extracting(RankedNews::newsId).containsExactly(2L, 1L, 4L, 3L);
+		assertThat(rankingService.topK(news, 0)).isEmpty();
+	}
+
+	@Test
+	void breaksTiesByRecency() {
+		LocalDateTime now = LocalDateTime.now();
+		List<RankedNews> unscored = List.of(
+			new RankedNews(1L, 0.0, now.minusDays(2)),
+			new RankedNews(2L, 0.0, now),
+			new RankedNews(3L, 0.0, null),
+			new RankedNews(4L, 0.0, now.minusDays(1)));
+
+		assertThat(rankingService.topK(unscored, 3)).extracting(RankedNews::newsId).containsExactly(2L, 4L, 1L);
+	}
+}
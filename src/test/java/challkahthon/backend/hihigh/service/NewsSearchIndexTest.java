@@ -0,0 +1,58 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 메모리 역색인의 BM25 순위와 증분 갱신. 저장소는 rebuild 에서만 쓰므로 여기서는 필요 없습니다.
+ */
+class NewsSearchIndexTest {
+
+	private NewsSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new NewsSearchIndex(null);
+		index.index(1L, "React hooks guide", "state management for large apps");
+		index.index(2L, "Weekly news roundup", "react is mentioned here once");
+		index.index(3L, "Java release", "spring boot and virtual threads");
+	}
+
+	@Test
+	void ranksTitleMatchesAboveBodyMatches() {
+		assertThat(index.search("react", 10)).extracting(NewsSearchIndex.SearchHit::newsId).containsExactly(1L, 2L);
+		assertThat(index.search("react", 1)).extracting(NewsSearchIndex.SearchHit::newsId).containsExactly(1L);
+		assertThat(index.search("kotlin", 10)).isEmpty();
+	}
+
+	@Test
+	void reindexingReplacesPreviousTerms() {
+		index.index(2L, "Kotlin coroutines", "structured concurrency");
+
+		assertThat(index.search("react", 10)).extracting(NewsSearchIndex.SearchHit::newsId).containsExactly(1L);
+		assertThat(index.search("kotlin", 10)).extracting(NewsSearchIndex.SearchHit::newsId).containsExactly(2L);
+		assertThat(index.getDocumentCount()).isEqualTo(3);
+	}
+
+	@Test
+	void removeDropsDocumentAndEmptyPostings() {
+		int terms = index.getTermCount();
+
+		index.remove(3L);
+
+		assertThat(index.getDocumentCount()).isEqualTo(2);
+		assertThat(index.getTermCount()).isLessThan(terms);
+		assertThat(index.search("spring", 10)).isEmpty();
+	}
+
+	@Test
+	void scoreOnlyCoversRequestedDocuments() {
+		assertThat(index.score(List.of("react"), Set.of(2L, 3L))).containsOnlyKeys(2L);
+		assertThat(index.score(List.of(), Set.of(1L))).isEmpty();
+	}
+}
@@ -0,0 +1,68 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 같은 호스트 요청은 하나씩, 이전 요청 시작부터 최소 간격을 두고 나갑니다.
+ */
+class PolitenessLimiterTest {
+
+	private static final long DELAY_MILLIS = 300;
+	private static final long TASK_MILLIS = 250;
+
+	@Test
+	void spacesSameHostRequestsFromPreviousStart() throws Exception {
+		PolitenessLimiter limiter = new PolitenessLimiter(4, DELAY_MILLIS);
+
+		long first = startedAt(limiter, "example.com");
+		long second = startedAt(limiter, "EXAMPLE.com");
+
+		// 완료 기준이면 TASK_MILLIS + DELAY_MILLIS 뒤에 시작한다
+		assertThat(second - first).isBetween(DELAY_MILLIS, TASK_MILLIS + DELAY_MILLIS - 50);
+	}
+
+	@Test
+	void slowRequestDelaysNextOnlyUntilItFinishes() throws Exception {
+		PolitenessLimiter limiter = new PolitenessLimiter(4, 100);
+
+		long first = startedAt(limiter, "example.com");
+		long second = startedAt(limiter, "example.com");
+
+		assertThat(second - first).isBetween(TASK_MILLIS, TASK_MILLIS + 100 - 20);
+	}
+
+	@Test
+	void differentHostsDoNotWaitForEachOther() throws Exception {
+		PolitenessLimiter limiter = new PolitenessLimiter(4, DELAY_MILLIS);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			long begin = System.currentTimeMillis();
+			List<Future<Long>> starts = new ArrayList<>();
+			for (String host : List.of("a.example.com", "b.example.com")) {
+				starts.add(executor.submit(() -> startedAt(limiter, host)));
+			}
+
+			for (Future<Long> start : starts) {
+				assertThat(start.get() - begin).isLessThan(DELAY_MILLIS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static long startedAt(PolitenessLimiter limiter, String host) throws Exception {
+		return limiter.run(host, () -> {
+			long started = System.currentTimeMillis();
+			Thread.sleep(TASK_MILLIS);
+			return started;
+		});
+	}
+}
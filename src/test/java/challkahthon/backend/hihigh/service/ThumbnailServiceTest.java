@@ -0,0 +1,221 @@
+package challkahthon.backend.hihigh.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import challkahthon.backend.hihigh.repository.CareerNewsRepository;
+import challkahthon.backend.hihigh.stub.StubHttpServer;
+import challkahthon.backend.hihigh.utils.ThumbnailUrls;
+
+/**
+ * 썸네일 폭 고정, 축소 규칙과 디스크 캐시 한도(가장 오래 쓰이지 않은 파일부터 제외).
+ */
+class ThumbnailServiceTest {
+
+	// 8x8 원본의 JPEG 변형은 한 장에 수백 바이트라 세 장을 더하면 미리 넣은 파일 하나만큼 넘친다
+	private static final int SEEDED_BYTES = 5_000;
+	private static final long CACHE_LIMIT = 16_000;
+
+	@TempDir
+	Path cacheDir;
+
+	private StubHttpServer server;
+	private CareerNewsRepository careerNewsRepository;
+
+	@BeforeEach
+	void setUp() {
+		server = StubHttpServer.start();
+		careerNewsRepository = mock(CareerNewsRepository.class);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@ParameterizedTest(name = "w={0} -> {1}")
+	@CsvSource({
+		"1,    160",
+		"160,  160",
+		"161,  320",
+		"320,  320",
+		"500,  640",
+		"5000, 640",
+	})
+	void normalizesToFixedWidths(int requested, int expected) {
+		assertThat(ThumbnailService.normalizeWidth(requested)).isEqualTo(expected);
+	}
+
+	@Test
+	void resizeKeepsAspectRatio() {
+		BufferedImage resized = ThumbnailService.resize(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_ARGB), 320);
+
+		assertThat(resized.getWidth()).isEqualTo(320);
+		assertThat(resized.getHeight()).isEqualTo(160);
+		assertThat(resized.getType()).isEqualTo(BufferedImage.TYPE_INT_RGB);
+	}
+
+	@Test
+	void resizeNeverUpscales() {
+		BufferedImage resized = ThumbnailService.resize(new BufferedImage(100, 40, BufferedImage.TYPE_INT_RGB), 640);
+
+		assertThat(resized.getWidth()).isEqualTo(100);
+		assertThat(resized.getHeight()).isEqualTo(40);
+	}
+
+	@Test
+	void resizeFillsTransparencyWithWhite() {
+		BufferedImage transparent = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB);
+
+		BufferedImage resized = ThumbnailService.resize(transparent, 160);
+
+		assertThat(resized.getRGB(80, 80)).isEqualTo(Color.WHITE.getRGB());
+	}
+
+	@Test
+	void rendersAllWidthsFromOneFetch() throws IOException {
+		StubHttpServer.Route source = serveImage("/img/wide.png", 1000, 500);
+		String url = server.baseUrl() + "/img/wide.png";
+		when(careerNewsRepository.findThumbnailUrlById(1L)).thenReturn(Optional.of(url));
+		ThumbnailService service = service(CACHE_LIMIT * 100);
+
+		ThumbnailService.Thumbnail small = service.getThumbnail(1L, 100);
+		ThumbnailService.Thumbnail large = service.getThumbnail(1L, 1200);
+
+		assertThat(small.isAvailable()).isTrue();
+		assertThat(ImageIO.read(small.file().toFile()).getWidth()).isEqualTo(160);
+		assertThat(ImageIO.read(large.file().toFile()).getWidth()).isEqualTo(640);
+		assertThat(large.etag()).isEqualTo("\"" + ThumbnailService.fileName(ThumbnailUrls.hash(url), 640) + "\"");
+		assertThat(source.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void failedSourceFallsBackToOriginalUrl() throws IOException {
+		StubHttpServer.Route source = server.route("/img/missing.png").respond(404, "text/plain", "not found");
+		String url = server.baseUrl() + "/img/missing.png";
+		when(careerNewsRepository.findThumbnailUrlById(1L)).thenReturn(Optional.of(url));
+		ThumbnailService service = service(CACHE_LIMIT);
+
+		ThumbnailService.Thumbnail thumbnail = service.getThumbnail(1L, 320);
+		service.getThumbnail(1L, 320);
+
+		assertThat(thumbnail.isAvailable()).isFalse();
+		assertThat(thumbnail.originalUrl()).isEqualTo(url);
+		// 실패한 원본은 한동안 다시 받지 않는다
+		assertThat(source.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void refusesPrivateHostsByDefault() throws IOException {
+		StubHttpServer.Route source = serveImage("/img/internal.png", 8, 8);
+		when(careerNewsRepository.findThumbnailUrlById(1L)).thenReturn(Optional.of(server.baseUrl() + "/img/internal.png"));
+		ThumbnailService service = service(CACHE_LIMIT, false);
+
+		assertThat(service.getThumbnail(1L, 320).isAvailable()).isFalse();
+		assertThat(source.requestCount()).isZero();
+	}
+
+	@ParameterizedTest(name = "{0} -> {1}")
+	@CsvSource({
+		"127.0.0.1,       false",
+		"10.1.2.3,        false",
+		"172.16.0.1,      false",
+		"192.168.0.10,    false",
+		"169.254.169.254, false",
+		"100.64.0.1,      false",
+		"0.0.0.0,         false",
+		"::1,             false",
+		"fd00::1,         false",
+		"fe80::1,         false",
+		"8.8.8.8,         true",
+		"100.128.0.1,     true",
+		"2001:4860::8888, true",
+	})
+	void classifiesPublicAddresses(String address, boolean expected) throws IOException {
+		assertThat(ThumbnailService.isPublicAddress(InetAddress.getByName(address))).isEqualTo(expected);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedFileOverLimit() throws IOException {
+		StubHttpServer.Route first = seed(1L, "/img/first.png", 1);
+		StubHttpServer.Route second = seed(2L, "/img/second.png", 2);
+		StubHttpServer.Route third = seed(3L, "/img/third.png", 3);
+		serveImage("/img/new.png", 8, 8);
+		when(careerNewsRepository.findThumbnailUrlById(4L)).thenReturn(Optional.of(server.baseUrl() + "/img/new.png"));
+		ThumbnailService service = service(CACHE_LIMIT);
+
+		// 가장 오래된 파일을 읽어 두면 그다음 파일이 가장 오래 쓰이지 않은 파일이 된다
+		assertThat(service.getThumbnail(1L, 320).isAvailable()).isTrue();
+		assertThat(service.getThumbnail(4L, 320).isAvailable()).isTrue();
+
+		assertThat(service.getThumbnail(1L, 320).isAvailable()).isTrue();
+		assertThat(service.getThumbnail(3L, 320).isAvailable()).isTrue();
+		assertThat(service.getThumbnail(2L, 320).isAvailable()).isFalse();
+		assertThat(first.requestCount()).isZero();
+		assertThat(third.requestCount()).isZero();
+		assertThat(second.requestCount()).isEqualTo(1);
+	}
+
+	@Test
+	void loadingExistingFilesAppliesLimitOldestFirst() throws IOException {
+		seed(1L, "/img/first.png", 1);
+		seed(2L, "/img/second.png", 2);
+		seed(3L, "/img/third.png", 3);
+		ThumbnailService service = service(SEEDED_BYTES * 2);
+
+		assertThat(service.getThumbnail(1L, 320).isAvailable()).isFalse();
+		assertThat(service.getThumbnail(2L, 320).isAvailable()).isTrue();
+		assertThat(service.getThumbnail(3L, 320).isAvailable()).isTrue();
+	}
+
+	// 스텁 서버가 루프백 주소라 내부망 주소 차단은 끈다
+	private ThumbnailService service(long maxCacheBytes) throws IOException {
+		return service(maxCacheBytes, true);
+	}
+
+	private ThumbnailService service(long maxCacheBytes, boolean allowPrivateHosts) throws IOException {
+		ThumbnailService service = new ThumbnailService(careerNewsRepository, cacheDir.toString(), maxCacheBytes,
+			1_048_576, 2_000, 1, allowPrivateHosts);
+		service.loadExistingFiles();
+		return service;
+	}
+
+	private StubHttpServer.Route serveImage(String path, int width, int height) throws IOException {
+		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		ByteArrayOutputStream png = new ByteArrayOutputStream();
+		ImageIO.write(image, "png", png);
+		return server.route(path).respond(200, "image/png", png.toByteArray());
+	}
+
+	// 이전 실행이 남긴 320 폭 캐시 파일. 원본 요청은 404 라 다시 만들 수 없다
+	private StubHttpServer.Route seed(Long newsId, String path, int age) throws IOException {
+		StubHttpServer.Route source = server.route(path).respond(404, "text/plain", "not found");
+		String url = server.baseUrl() + path;
+		when(careerNewsRepository.findThumbnailUrlById(newsId)).thenReturn(Optional.of(url));
+
+		Path file = cacheDir.resolve(ThumbnailService.fileName(ThumbnailUrls.hash(url), 320));
+		Files.write(file, new byte[SEEDED_BYTES]);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() - 60_000L * (10 - age)));
+		return source;
+	}
+}
@@ -0,0 +1,32 @@
+package challkahthon.backend.hihigh.stub;
+
+import java.util.Random;
+
+/**
+ * 스텁 응답 지연 분포. 실제 외부 API 처럼 대부분 빠르고 가끔 느린 꼬리를 흉내 내려면 logNormal 을 씁니다.
+ */
+@FunctionalInterface
+public interface LatencyProfile {
+
+	long nextMillis(Random random);
+
+	static LatencyProfile none() {
+		return random -> 0L;
+	}
+
+	static LatencyProfile fixed(long millis) {
+		return random -> millis;
+	}
+
+	static LatencyProfile uniform(long minMillis, long maxMillis) {
+		return random -> minMillis + (long) (random.nextDouble() * (maxMillis - minMillis));
+	}
+
+	/**
+	 * 중앙값이 medianMillis 이고 sigma 가 클수록 꼬리가 긴 로그정규 분포. 한 번의 지연은 maxMillis 를 넘지 않습니다.
+	 */
+	static LatencyProfile logNormal(long medianMillis, double sigma, long maxMillis) {
+		double mu = Math.log(Math.max(1, medianMillis));
+		return random -> Math.min(maxMillis, Math.round(Math.exp(mu + sigma * random.nextGaussian())));
+	}
+}
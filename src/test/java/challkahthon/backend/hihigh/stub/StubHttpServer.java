@@ -0,0 +1,270 @@
+package challkahthon.backend.hihigh.stub;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 외부 API(newsapi.org, gnews.io, RSS 호스트, OpenAI)를 대신하는 로컬 HTTP 스텁 서버.
+ * 경로 접두사별로 녹화해 둔 픽스처(src/test/resources/stubs)를 돌려주며, 응답 지연 분포와 오류율,
+ * 초당 요청 한도를 넘으면 429 를 돌려주는 레이트 리밋을 경로마다 지정할 수 있습니다.
+ * 난수 시드를 고정하므로 같은 요청 순서면 같은 지연/오류가 재현됩니다.
+ *
+ * <pre>
+ * try (StubHttpServer server = StubHttpServer.start()) {
+ *     server.route("/v2/everything").fixture("stubs/newsapi-everything.json")
+ *         .latency(LatencyProfile.logNormal(120, 0.5, 2000)).errorRate(0.05);
+ *     // news.api.base-url 을 server.baseUrl() 로 지정
+ * }
+ * </pre>
+ */
+public final class StubHttpServer implements AutoCloseable {
+
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final List<Route> routes = new CopyOnWriteArrayList<>();
+	private final Random random;
+
+	private StubHttpServer(long seed) throws IOException {
+		this.random = new Random(seed);
+		this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		// 지연을 흉내 내는 동안 다른 요청이 막히지 않도록 요청마다 스레드를 쓴다
+		this.executor = Executors.newCachedThreadPool(runnable -> {
+			Thread thread = new Thread(runnable, "stub-http");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	public static StubHttpServer start() {
+		return start(42L);
+	}
+
+	public static StubHttpServer start(long seed) {
+		try {
+			return new StubHttpServer(seed);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * http://127.0.0.1:{port} (끝에 / 없음)
+	 */
+	public String baseUrl() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/**
+	 * 경로 접두사에 대한 응답 규칙. 여러 규칙이 맞으면 가장 긴 접두사가 쓰입니다.
+	 */
+	public Route route(String pathPrefix) {
+		Route route = new Route(pathPrefix);
+		routes.add(route);
+		return route;
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+			String path = exchange.getRequestURI().getRawPath();
+			Route route = routes.stream()
+				.filter(candidate -> path.startsWith(candidate.pathPrefix))
+				.max(Comparator.comparingInt(candidate -> candidate.pathPrefix.length()))
+				.orElse(null);
+			if (route == null) {
+				send(exchange, 404, "text/plain", "no stub route for " + path);
+				return;
+			}
+			route.serve(exchange);
+		}
+	}
+
+	private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+		send(exchange, status, contentType, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static void send(HttpExchange exchange, int status, String contentType, byte[] bytes) throws IOException {
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+		if (bytes.length > 0) {
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(bytes);
+			}
+		}
+	}
+
+	private static byte[] readFixture(String resource) {
+		try (InputStream in = StubHttpServer.class.getClassLoader().getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new IllegalArgumentException("fixture not found: " + resource);
+			}
+			return in.readAllBytes();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	public final class Route {
+
+		private final String pathPrefix;
+		private final AtomicInteger requests = new AtomicInteger();
+		private final AtomicInteger errors = new AtomicInteger();
+		private final AtomicInteger rateLimited = new AtomicInteger();
+		private final List<Long> servedLatencies = new CopyOnWriteArrayList<>();
+
+		private volatile int status = 200;
+		private volatile String contentType = "application/json";
+		private volatile byte[] body = new byte[0];
+		private volatile LatencyProfile latency = LatencyProfile.none();
+		private volatile double errorRate;
+		private volatile int errorStatus = 500;
+		private volatile int requestsPerSecond;
+		private long windowStartMillis;
+		private int windowRequests;
+
+		private Route(String pathPrefix) {
+			this.pathPrefix = pathPrefix;
+		}
+
+		/**
+		 * 클래스패스 리소스를 응답 본문으로 씁니다. 확장자로 Content-Type 을 정합니다.
+		 */
+		public Route fixture(String resource) {
+			this.body = readFixture(resource);
+			if (resource.endsWith(".xml")) {
+				this.contentType = "application/rss+xml; charset=UTF-8";
+			} else if (resource.endsWith(".html")) {
+				this.contentType = "text/html; charset=UTF-8";
+			} else {
+				this.contentType = "application/json";
+			}
+			return this;
+		}
+
+		public Route respond(int status, String contentType, String body) {
+			return respond(status, contentType, body.getBytes(StandardCharsets.UTF_8));
+		}
+
+		public Route respond(int status, String contentType, byte[] body) {
+			this.status = status;
+			this.contentType = contentType;
+			this.body = body;
+			return this;
+		}
+
+		public Route latency(LatencyProfile latency) {
+			this.latency = latency;
+			return this;
+		}
+
+		/**
+		 * 0~1 사이 비율로 errorStatus(기본 500) 응답을 섞습니다.
+		 */
+		public Route errorRate(double errorRate) {
+			return errorRate(errorRate, 500);
+		}
+
+		public Route errorRate(double errorRate, int errorStatus) {
+			this.errorRate = errorRate;
+			this.errorStatus = errorStatus;
+			return this;
+		}
+
+		/**
+		 * 1초 창마다 requestsPerSecond 건을 넘는 요청에 Retry-After 와 함께 429 를 돌려줍니다. 0 이면 제한하지 않습니다.
+		 */
+		public Route rateLimit(int requestsPerSecond) {
+			this.requestsPerSecond = requestsPerSecond;
+			return this;
+		}
+
+		public int requestCount() {
+			return requests.get();
+		}
+
+		public int errorCount() {
+			return errors.get();
+		}
+
+		public int rateLimitedCount() {
+			return rateLimited.get();
+		}
+
+		/**
+		 * 200 으로 응답한 요청들에 적용한 지연(ms). 부하 측정 결과와 비교할 때 씁니다.
+		 */
+		public List<Long> servedLatencies() {
+			return new ArrayList<>(servedLatencies);
+		}
+
+		private void serve(HttpExchange exchange) throws IOException {
+			requests.incrementAndGet();
+			if (overRateLimit()) {
+				rateLimited.incrementAndGet();
+				exchange.getResponseHeaders().set("Retry-After", "1");
+				send(exchange, 429, "application/json", "{\"status\":\"error\",\"code\":\"rateLimited\"}");
+				return;
+			}
+
+			long delay;
+			boolean fail;
+			synchronized (random) {
+				delay = latency.nextMillis(random);
+				fail = errorRate > 0 && random.nextDouble() < errorRate;
+			}
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+
+			if (fail) {
+				errors.incrementAndGet();
+				send(exchange, errorStatus, "application/json", "{\"status\":\"error\"}");
+				return;
+			}
+			servedLatencies.add(delay);
+			send(exchange, status, contentType, body);
+		}
+
+		private synchronized boolean overRateLimit() {
+			if (requestsPerSecond <= 0) {
+				return false;
+			}
+			long now = System.currentTimeMillis();
+			if (now - windowStartMillis >= 1000) {
+				windowStartMillis = now;
+				windowRequests = 0;
+			}
+			return ++windowRequests > requestsPerSecond;
+		}
+	}
+}
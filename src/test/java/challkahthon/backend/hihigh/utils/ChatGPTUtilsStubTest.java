@@ -0,0 +1,57 @@
+package challkahthon.backend.hihigh.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import challkahthon.backend.hihigh.config.ChatGPTConfig;
+import challkahthon.backend.hihigh.stub.StubHttpServer;
+
+/**
+ * chatgpt.url 을 StubHttpServer 로 돌려 OpenAI 호출 없이 응답 처리를 확인합니다.
+ */
+class ChatGPTUtilsStubTest {
+
+	private StubHttpServer server;
+
+	@BeforeEach
+	void setUp() {
+		server = StubHttpServer.start();
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	@Test
+	void returnsAssistantMessageFromFixture() {
+		StubHttpServer.Route route = server.route("/v1/chat/completions").fixture("stubs/openai-chat-completion.json");
+
+		String answer = chatGPTUtils().callChatGPT("system", "백엔드 개발자가 되려면?");
+
+		assertThat(route.requestCount()).isEqualTo(1);
+		assertThat(answer).startsWith("백엔드 개발자로 성장하려면");
+	}
+
+	@Test
+	void returnsNullWhenRateLimited() {
+		StubHttpServer.Route route = server.route("/v1/chat/completions").fixture("stubs/openai-chat-completion.json")
+			.errorRate(1.0, 429);
+
+		assertThat(chatGPTUtils().callChatGPT("system", "질문")).isNull();
+		assertThat(route.errorCount()).isEqualTo(1);
+	}
+
+	private ChatGPTUtils chatGPTUtils() {
+		ChatGPTConfig config = new ChatGPTConfig();
+		ReflectionTestUtils.setField(config, "secretKey", "stub-key");
+		ChatGPTUtils utils = new ChatGPTUtils(config);
+		ReflectionTestUtils.setField(utils, "model", "gpt-4o-mini");
+		ReflectionTestUtils.setField(utils, "apiURL", server.baseUrl() + "/v1/chat/completions");
+		return utils;
+	}
+}
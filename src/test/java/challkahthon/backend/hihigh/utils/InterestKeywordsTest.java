@@ -0,0 +1,40 @@
+package challkahthon.backend.hihigh.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * 관심사-기사 연결은 정규화한 키워드의 완전 일치로 정해집니다. 기사 쪽은 여러 단어 키워드의 각 단어도 연결합니다.
+ * 이 규칙을 바꾸면 keyword 연결 테이블을 다시 채워야 합니다.
+ */
+class InterestKeywordsTest {
+
+	@Test
+	void parsesHalfAndFullWidthCommas() {
+		assertThat(InterestKeywords.parse(" React， Java ,, 디자인 ")).containsExactly("React", "Java", "디자인");
+		assertThat(InterestKeywords.parse("  ")).isEmpty();
+		assertThat(InterestKeywords.parse(null)).isEmpty();
+	}
+
+	@Test
+	void normalizesCaseAndWhitespaceAcrossSources() {
+		assertThat(InterestKeywords.normalizedSet("React, JAVA", " java ,Spring Boot"))
+			.containsExactly("react", "java", "spring boot");
+	}
+
+	@Test
+	void matchesWholeKeywordsOnly() {
+		// 사용자 키워드는 그대로 둔다
+		assertThat(InterestKeywords.normalizedSet("React Native, TypeScript"))
+			.containsExactly(InterestKeywords.normalize(" react native "), "typescript");
+	}
+
+	@Test
+	void linksEachWordOfMultiWordArticleKeywords() {
+		// "react" 관심사는 "React Native" 기사와 이어지지만 "java" 는 "JavaScript" 와 이어지지 않는다
+		assertThat(InterestKeywords.articleKeywordNames("React Native, TypeScript", "JavaScript"))
+			.containsExactlyInAnyOrder("react native", "react", "native", "typescript", "javascript")
+			.doesNotContain("script", "java");
+	}
+}
@@ -0,0 +1,41 @@
+package challkahthon.backend.hihigh.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * KeywordMatcher 는 TextAnalyzer 토큰 경계에서만 일치합니다. 분석 규칙을 바꾸면 이 기대값도 함께 바뀝니다.
+ */
+class KeywordMatcherTest {
+
+	private final KeywordMatcher matcher = KeywordMatcher.of(
+		List.of("UI", "design", "React", "디자인", "machine learning"));
+
+	@Test
+	void matchesOnTokenBoundariesOnly() {
+		assertThat(matcher.match("How to build apps")).isEmpty();
+		assertThat(matcher.matchesAny("reactive streams")).isFalse();
+		assertThat(matcher.match("UI/UX trends").stream().boxed()).containsExactly(0);
+	}
+
+	@Test
+	void matchesInflectedForms() {
+		assertThat(matcher.match("Senior designer wanted").stream().boxed()).containsExactly(1);
+		assertThat(matcher.match("디자인을 배우다").stream().boxed()).containsExactly(3);
+	}
+
+	@Test
+	void matchesMultiTokenKeywordsInOrder() {
+		assertThat(matcher.match("Machine Learning engineers and React devs").stream().boxed()).containsExactly(2, 4);
+		assertThat(matcher.match("learning machine")).isEmpty();
+	}
+
+	@Test
+	void normalizesKeywords() {
+		assertThat(matcher.keywords()).containsExactly("ui", "design", "react", "디자인", "machine learning");
+		assertThat(matcher.indexOf(" React ")).isEqualTo(2);
+	}
+}
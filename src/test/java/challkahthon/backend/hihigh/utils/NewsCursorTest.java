@@ -0,0 +1,46 @@
+package challkahthon.backend.hihigh.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * 커서 토큰은 클라이언트가 그대로 돌려보내는 값이므로 인코딩 형식이 바뀌면 기존 토큰이 깨집니다.
+ */
+class NewsCursorTest {
+
+	@Test
+	void roundTripsThroughUrlSafeToken() {
+		NewsCursor cursor = new NewsCursor(LocalDateTime.of(2025, 3, 1, 9, 30, 15, 123_000_000), 42L);
+
+		String token = cursor.encode();
+
+		assertThat(token).doesNotContain("=", "+", "/");
+		assertThat(NewsCursor.decode(token)).isEqualTo(cursor);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "not-base64!", "MjAyNS0wMy0wMQ"})
+	void rejectsMalformedTokens(String token) {
+		assertThatThrownBy(() -> NewsCursor.decode(token)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {1, 20, NewsCursor.MAX_PAGE_SIZE})
+	void acceptsPageSizesWithinBounds(int size) {
+		assertThat(NewsCursor.checkPageSize(size)).isEqualTo(size);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {Integer.MIN_VALUE, -1, 0, NewsCursor.MAX_PAGE_SIZE + 1, Integer.MAX_VALUE})
+	void rejectsPageSizesOutOfBounds(int size) {
+		assertThatThrownBy(() -> NewsCursor.checkPageSize(size))
+			.isInstanceOf(IllegalArgumentException.class)
+			.hasMessageContaining(String.valueOf(size));
+	}
+}